@@ -0,0 +1,213 @@
+package holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 飛び石（休日に挟まれた出勤日）の検出と、休暇取得日の推奨.
+ * <pre>
+ * 年間の休日（祝日、振替休日、国民の休日、週末）を Holiday.yearTable(int) のビットマップから作り、
+ *   ・前日と翌日が休日である単独の出勤日（飛び石）
+ *   ・Ｎ日の休暇を取得して得られる最長の連休
+ * を、ビット演算とスライディングウィンドウで求める。
+ * 会社独自の休日がある場合は、休日ビットマップを指定して生成する。
+ * 年の前後（前年１２月３１日、翌年１月１日）は出勤日として扱う。
+ * </pre>
+ * @since 4.1
+ */
+public final class BridgeDays{
+	private final int year;
+	private final long firstEpochDay;
+	private final int length;
+	private final long[] rest;
+
+	/**
+	 * 土曜日、日曜日を週末とする対象年 指定コンストラクタ.
+	 * @param year 西暦４桁
+	 */
+	public BridgeDays(int year){
+		this(year, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+	}
+	/**
+	 * 週末の曜日、会社独自の休日を指定するコンストラクタ.
+	 * @param year 西暦４桁
+	 * @param weekends 週末とする曜日
+	 * @param extraRestDays 祝日以外の休日（対象年以外の日付は無視する）
+	 */
+	public BridgeDays(int year, Set<DayOfWeek> weekends, LocalDate...extraRestDays){
+		this(year, restBitmap(year, weekends, extraRestDays));
+	}
+	/**
+	 * 休日ビットマップを指定するコンストラクタ.
+	 * @param year 西暦４桁
+	 * @param restBitmap 年初＝0 の日のインデックスのビットで休日を示す long[6]
+	 */
+	public BridgeDays(int year, long[] restBitmap){
+		if (restBitmap.length != 6){
+			throw new IllegalArgumentException("restBitmap length Error");
+		}
+		LocalDate first = LocalDate.of(year, 1, 1);
+		this.year = year;
+		this.firstEpochDay = first.toEpochDay();
+		this.length = first.lengthOfYear();
+		this.rest = restBitmap.clone();
+		// 年の日数を超えるビットは落とす
+		this.rest[5] &= (1L << (length - 320)) - 1;
+	}
+	/**
+	 * 祝日＋週末＋指定日の休日ビットマップを作成.
+	 * @param year 西暦４桁
+	 * @param weekends 週末とする曜日
+	 * @param extraRestDays 祝日以外の休日
+	 * @return long[6]
+	 */
+	public static long[] restBitmap(int year, Set<DayOfWeek> weekends, LocalDate...extraRestDays){
+		Holiday.YearTable table = Holiday.yearTable(year);
+		long[] bits = table.toBitmap();
+		int length = table.length();
+		int jan1 = LocalDate.of(year, 1, 1).getDayOfWeek().getValue();
+		for(DayOfWeek w : weekends){
+			for(int i = Math.floorMod(w.getValue() - jan1, 7); i < length; i += 7){
+				bits[i >> 6] |= 1L << i;
+			}
+		}
+		for(LocalDate d : extraRestDays){
+			if (d.getYear()==year){
+				int i = d.getDayOfYear() - 1;
+				bits[i >> 6] |= 1L << i;
+			}
+		}
+		return bits;
+	}
+
+	/**
+	 * 飛び石（前日と翌日が休日である出勤日）の配列を返す.
+	 * @return LocalDate配列
+	 */
+	public LocalDate[] singleBridgeDays(){
+		long[] bridge = new long[6];
+		int count = 0;
+		for(int w=0;w < 6;w++){
+			long prev = (rest[w] << 1) | (w > 0 ? rest[w - 1] >>> 63 : 0L);
+			long next = (rest[w] >>> 1) | (w < 5 ? rest[w + 1] << 63 : 0L);
+			bridge[w] = ~rest[w] & prev & next;
+			count += Long.bitCount(bridge[w]);
+		}
+		LocalDate[] rtns = new LocalDate[count];
+		int n = 0;
+		for(int w=0;w < 6;w++){
+			for(long b = bridge[w]; b != 0; b &= b - 1){
+				rtns[n++] = LocalDate.ofEpochDay(firstEpochDay + (w << 6) + Long.numberOfTrailingZeros(b));
+			}
+		}
+		return rtns;
+	}
+
+	/**
+	 * 指定日数の休暇で得られる最長の連休を求める.
+	 * 同じ長さの連休が複数ある場合は、最も早いものを返す。
+	 * @param leaveDays 取得する休暇の日数（0 の場合、休暇なしの最長連休）
+	 * @return Leave
+	 */
+	public Leave best(int leaveDays){
+		if (leaveDays < 0){
+			throw new IllegalArgumentException("leaveDays parameter Error");
+		}
+		int[] work = workIndexes();
+		int m = work.length;
+		if (leaveDays >= m){
+			return new Leave(0, length - 1, work);
+		}
+		// 連続する leaveDays 個の出勤日を休暇にした時の、前後の出勤日の間隔が連休の長さ
+		int bestLeft = -1;
+		int bestRight = -1;
+		for(int i=0;i + leaveDays <= m;i++){
+			int left = i==0 ? -1 : work[i - 1];
+			int right = i + leaveDays==m ? length : work[i + leaveDays];
+			if (right - left > bestRight - bestLeft){
+				bestLeft = left;
+				bestRight = right;
+			}
+		}
+		int[] leave = new int[leaveDays];
+		int n = 0;
+		for(int i : work){
+			if (bestLeft < i && i < bestRight) leave[n++] = i;
+		}
+		return new Leave(bestLeft + 1, bestRight - 1, leave);
+	}
+
+	private int[] workIndexes(){
+		int count = 0;
+		long[] work = new long[6];
+		for(int w=0;w < 6;w++){
+			work[w] = ~rest[w];
+		}
+		work[5] &= (1L << (length - 320)) - 1;
+		for(long b : work) count += Long.bitCount(b);
+		int[] rtns = new int[count];
+		int n = 0;
+		for(int w=0;w < 6;w++){
+			for(long b = work[w]; b != 0; b &= b - 1){
+				rtns[n++] = (w << 6) + Long.numberOfTrailingZeros(b);
+			}
+		}
+		return rtns;
+	}
+
+	/**
+	 * 年の参照.
+	 * @return 西暦４桁
+	 */
+	public int getYear(){
+		return year;
+	}
+
+	/**
+	 * 休暇取得による連休.
+	 */
+	public final class Leave{
+		private final int start;
+		private final int end;
+		private final int[] leave;
+		private Leave(int start, int end, int[] leave){
+			this.start = start;
+			this.end = end;
+			this.leave = leave;
+		}
+		/**
+		 * @return 連休の初日
+		 */
+		public LocalDate getStart(){
+			return LocalDate.ofEpochDay(firstEpochDay + start);
+		}
+		/**
+		 * @return 連休の最終日
+		 */
+		public LocalDate getEnd(){
+			return LocalDate.ofEpochDay(firstEpochDay + end);
+		}
+		/**
+		 * @return 連休の日数
+		 */
+		public int getRestDays(){
+			return end - start + 1;
+		}
+		/**
+		 * @return 休暇を取得する日の配列
+		 */
+		public LocalDate[] getLeaveDays(){
+			LocalDate[] rtns = new LocalDate[leave.length];
+			for(int i=0;i < leave.length;i++){
+				rtns[i] = LocalDate.ofEpochDay(firstEpochDay + leave[i]);
+			}
+			return rtns;
+		}
+		@Override
+		public String toString(){
+			return getStart() + "～" + getEnd() + " " + getRestDays() + "日 休暇:" + leave.length + "日";
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package holiday;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 大量の期間（開始日、終了日の組）の営業日数、祝日数の一括計算.
+ * <pre>
+ * 開始日、終了日のエポック日の配列を受け取り、組ごとの
+ *   営業日数（BusinessCalendar.businessDaysBetween と同じ）
+ *   祝日数（BusinessCalendar.holidaysBetween と同じ）
+ * を出力配列に書き込む。期間は開始日を含み、終了日を含まない。
+ * 累積日数の表の参照のみで求め、配列を分割して ForkJoinPool で並列に処理する。
+ * </pre>
+ * @since 4.1
+ */
+public final class BulkIntervalCount{
+	/** これ以下の件数は分割せずに処理する */
+	private static final int THRESHOLD = 1 << 13;
+
+	private BulkIntervalCount(){}
+
+	/**
+	 * 組ごとの営業日数、祝日数を共通の ForkJoinPool で求める.
+	 * @param startEpochDays 開始日のエポック日（含む）の配列
+	 * @param endEpochDays 終了日のエポック日（含まない）の配列
+	 * @param businessDays 営業日数の出力先、不要なら null
+	 * @param holidays 祝日数の出力先、不要なら null
+	 */
+	public static void count(int[] startEpochDays, int[] endEpochDays, int[] businessDays, int[] holidays){
+		count(ForkJoinPool.commonPool(), startEpochDays, endEpochDays, businessDays, holidays);
+	}
+	/**
+	 * 組ごとの営業日数、祝日数を指定の ForkJoinPool で求める.
+	 * 範囲外の日付があれば IllegalArgumentException を投げる（出力先の一部は書き込まれている）。
+	 * @param pool ForkJoinPool
+	 * @param startEpochDays 開始日のエポック日（含む）の配列
+	 * @param endEpochDays 終了日のエポック日（含まない）の配列
+	 * @param businessDays 営業日数の出力先、不要なら null
+	 * @param holidays 祝日数の出力先、不要なら null
+	 */
+	public static void count(ForkJoinPool pool, int[] startEpochDays, int[] endEpochDays, int[] businessDays, int[] holidays){
+		int n = startEpochDays.length;
+		if (endEpochDays.length != n || businessDays != null && businessDays.length < n || holidays != null && holidays.length < n){
+			throw new IllegalArgumentException("array length Error");
+		}
+		pool.invoke(new CountTask(startEpochDays, endEpochDays, businessDays, holidays, 0, n));
+	}
+
+	@SuppressWarnings("serial")
+	private static final class CountTask extends RecursiveAction{
+		private final int[] starts;
+		private final int[] ends;
+		private final int[] businessDays;
+		private final int[] holidays;
+		private final int from;
+		private final int to;
+		CountTask(int[] starts, int[] ends, int[] businessDays, int[] holidays, int from, int to){
+			this.starts = starts;
+			this.ends = ends;
+			this.businessDays = businessDays;
+			this.holidays = holidays;
+			this.from = from;
+			this.to = to;
+		}
+		@Override
+		protected void compute(){
+			if (to - from <= THRESHOLD){
+				count(from, to);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new CountTask(starts, ends, businessDays, holidays, from, mid)
+					, new CountTask(starts, ends, businessDays, holidays, mid, to));
+		}
+		private void count(int from, int to){
+			int[] business = BusinessCalendar.cumulativeBusinessDays();
+			int[] holiday = BusinessCalendar.cumulativeHolidays();
+			int first = (int)BusinessCalendar.FIRST_EPOCH_DAY;
+			int limit = business.length;
+			for(int k=from;k < to;k++){
+				int s = starts[k] - first;
+				int e = ends[k] - first;
+				if (s < 0 || limit <= s || e < 0 || limit <= e){
+					throw new IllegalArgumentException("epochDays[" + k + "] parameter Error");
+				}
+				if (businessDays != null) businessDays[k] = business[e] - business[s];
+				if (holidays != null) holidays[k] = holiday[e] - holiday[s];
+			}
+		}
+	}
+}
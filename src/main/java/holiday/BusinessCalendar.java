@@ -0,0 +1,244 @@
+package holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 営業日カレンダー.
+ * <pre>
+ * 土曜日、日曜日、祝日（振替休日、国民の休日を含む）以外の日を営業日とする。
+ * Holiday.MIN_TABLE_YEAR～Holiday.MAX_TABLE_YEAR の月ごとの営業日を
+ * ビットマスク（日 d → ビット d-1）として最初の参照時に一度だけ作成し、
+ * 第ｎ営業日（select）、何番目の営業日か（rank）を表参照とビット数のカウントで求める。
+ * 例）３営業日目
+ *       BusinessCalendar.nthBusinessDay(2026, 5, 3)
+ *     ２５日より前の最終営業日
+ *       BusinessCalendar.nthBusinessDay(2026, 5, BusinessCalendar.businessDayRank(LocalDate.of(2026, 5, 24)))
+ * </pre>
+ * @since 4.1
+ */
+public final class BusinessCalendar{
+	/** 営業日カレンダーの最初の日（Holiday.MIN_TABLE_YEAR の１月１日）のエポック日 */
+	public static final long FIRST_EPOCH_DAY = LocalDate.of(Holiday.MIN_TABLE_YEAR, 1, 1).toEpochDay();
+	/** 営業日カレンダーの最後の日（Holiday.MAX_TABLE_YEAR の１２月３１日）のエポック日 */
+	public static final long LAST_EPOCH_DAY = LocalDate.of(Holiday.MAX_TABLE_YEAR, 12, 31).toEpochDay();
+	private static final int MONTHS = (Holiday.MAX_TABLE_YEAR - Holiday.MIN_TABLE_YEAR + 1) * 12;
+
+	private BusinessCalendar(){}
+
+	// 表は最初の参照時に作成する
+	private static final class Tables{
+		/** [月のインデックス] → 営業日のビットマスク */
+		static final int[] MASKS = new int[MONTHS];
+		/** [月のインデックス * 32 + k] → k+1 番目の営業日の日 */
+		static final byte[] SELECT = new byte[MONTHS * 32];
+		/** [月のインデックス] → 1日のエポック日、最後は範囲外の翌月1日 */
+		static final int[] MONTH_STARTS = new int[MONTHS + 1];
+		/** FIRST_EPOCH_DAY からの日のインデックス i の営業日ビット */
+		static final long[] BITS = new long[(int)((LAST_EPOCH_DAY - FIRST_EPOCH_DAY) >> 6) + 1];
+		/** [日のインデックス i] → FIRST_EPOCH_DAY から i の前日までの営業日数、最後は全期間の営業日数 */
+		static final int[] CUMULATIVE = new int[(int)(LAST_EPOCH_DAY - FIRST_EPOCH_DAY) + 2];
+		/** [日のインデックス i] → FIRST_EPOCH_DAY から i の前日までの祝日数、最後は全期間の祝日数 */
+		static final int[] HOLIDAY_CUMULATIVE = new int[(int)(LAST_EPOCH_DAY - FIRST_EPOCH_DAY) + 2];
+		/** [k] → FIRST_EPOCH_DAY から数えて k 番目（0 から始まる）の営業日のエポック日 */
+		static final int[] BUSINESS_DAYS;
+		static{
+			for(int mi=0;mi < MONTHS;mi++){
+				int year = Holiday.MIN_TABLE_YEAR + mi / 12;
+				int month = mi % 12 + 1;
+				LocalDate first = LocalDate.of(year, month, 1);
+				int mask = first.lengthOfMonth()==31 ? 0x7fffffff : (1 << first.lengthOfMonth()) - 1;
+				// 1日の曜日から土曜日、日曜日の日を求める
+				int sat = Math.floorMod(DayOfWeek.SATURDAY.getValue() - first.getDayOfWeek().getValue(), 7);
+				for(int d=sat;d < 31;d += 7){
+					mask &= ~(1 << d);
+					if (d + 1 < 31) mask &= ~(1 << (d + 1));
+				}
+				if (sat==6) mask &= ~1;
+				for(int d : Holiday.arrayDays(year, month)){
+					mask &= ~(1 << (d - 1));
+				}
+				MASKS[mi] = mask;
+				MONTH_STARTS[mi] = (int)first.toEpochDay();
+				int offset = (int)(first.toEpochDay() - FIRST_EPOCH_DAY);
+				int k = 0;
+				for(int m=mask;m != 0;m &= m - 1){
+					int d = Integer.numberOfTrailingZeros(m);
+					SELECT[mi * 32 + k++] = (byte)(d + 1);
+					BITS[(offset + d) >> 6] |= 1L << (offset + d);
+				}
+			}
+			MONTH_STARTS[MONTHS] = (int)LAST_EPOCH_DAY + 1;
+			for(int i=1;i < CUMULATIVE.length;i++){
+				CUMULATIVE[i] = CUMULATIVE[i - 1] + (int)((BITS[(i - 1) >> 6] >>> (i - 1)) & 1L);
+			}
+			BUSINESS_DAYS = new int[CUMULATIVE[CUMULATIVE.length - 1]];
+			for(int i=0, k=0;i < CUMULATIVE.length - 1;i++){
+				if (CUMULATIVE[i + 1] != CUMULATIVE[i]) BUSINESS_DAYS[k++] = (int)FIRST_EPOCH_DAY + i;
+			}
+			int i = 1;
+			for(int year=Holiday.MIN_TABLE_YEAR;year <= Holiday.MAX_TABLE_YEAR;year++){
+				Holiday.YearTable table = Holiday.yearTable(year);
+				for(int d=0;d < table.length();d++, i++){
+					HOLIDAY_CUMULATIVE[i] = HOLIDAY_CUMULATIVE[i - 1] + (table.isHoliday(d) ? 1 : 0);
+				}
+			}
+		}
+	}
+
+	private static int monthIndex(int year, int month){
+		if (year < Holiday.MIN_TABLE_YEAR || Holiday.MAX_TABLE_YEAR < year){
+			throw new IllegalArgumentException("year parameter Error");
+		}
+		if (month < 1 || 12 < month){
+			throw new IllegalArgumentException("month parameter Error");
+		}
+		return (year - Holiday.MIN_TABLE_YEAR) * 12 + month - 1;
+	}
+
+	/** 月のインデックス（Holiday.MIN_TABLE_YEAR の１月 = 0）の1日のエポック日、MONTHS は範囲外の翌月1日 */
+	static int monthStart(int monthIndex){
+		return Tables.MONTH_STARTS[monthIndex];
+	}
+	/** エポック日の月のインデックス、範囲外は -1 または MONTHS */
+	static int monthIndexOf(long epochDay){
+		if (epochDay < FIRST_EPOCH_DAY) return -1;
+		if (LAST_EPOCH_DAY < epochDay) return MONTHS;
+		int i = Arrays.binarySearch(Tables.MONTH_STARTS, (int)epochDay);
+		return i >= 0 ? i : -i - 2;
+	}
+
+	/**
+	 * 指定年、月の営業日のビットマスク.
+	 * @param year 西暦４桁
+	 * @param month 月
+	 * @return 日 d が営業日ならビット d-1 が立った値
+	 */
+	public static int businessDayMask(int year, int month){
+		return Tables.MASKS[monthIndex(year, month)];
+	}
+	/**
+	 * 指定年、月の営業日数.
+	 * @param year 西暦４桁
+	 * @param month 月
+	 * @return 営業日数
+	 */
+	public static int businessDayCount(int year, int month){
+		return Integer.bitCount(Tables.MASKS[monthIndex(year, month)]);
+	}
+	/**
+	 * 指定日が営業日かどうか.
+	 * @param dt 指定日
+	 * @return true=営業日である。
+	 */
+	public static boolean isBusinessDay(LocalDate dt){
+		int mask = Tables.MASKS[monthIndex(dt.getYear(), dt.getMonthValue())];
+		return (mask & (1 << (dt.getDayOfMonth() - 1))) != 0;
+	}
+	/**
+	 * 指定エポック日が営業日かどうか.
+	 * @param epochDay LocalDate#toEpochDay() の値
+	 * @return true=営業日である。
+	 */
+	public static boolean isBusinessDay(long epochDay){
+		if (epochDay < FIRST_EPOCH_DAY || LAST_EPOCH_DAY < epochDay){
+			throw new IllegalArgumentException("epochDay parameter Error");
+		}
+		int i = (int)(epochDay - FIRST_EPOCH_DAY);
+		return (Tables.BITS[i >> 6] & (1L << i)) != 0;
+	}
+	/**
+	 * 開始日から終了日の前日までの営業日数.
+	 * 累積営業日数の表の２回の参照で求める。
+	 * @param startEpochDay 開始日のエポック日（含む）
+	 * @param endEpochDay 終了日のエポック日（含まない）、LAST_EPOCH_DAY + 1 まで指定できる
+	 * @return 営業日数、終了日が開始日より前の場合は負の値
+	 */
+	public static int businessDaysBetween(long startEpochDay, long endEpochDay){
+		if (startEpochDay < FIRST_EPOCH_DAY || LAST_EPOCH_DAY + 1 < startEpochDay
+			|| endEpochDay < FIRST_EPOCH_DAY || LAST_EPOCH_DAY + 1 < endEpochDay){
+			throw new IllegalArgumentException("epochDay parameter Error");
+		}
+		return Tables.CUMULATIVE[(int)(endEpochDay - FIRST_EPOCH_DAY)] - Tables.CUMULATIVE[(int)(startEpochDay - FIRST_EPOCH_DAY)];
+	}
+	/**
+	 * FIRST_EPOCH_DAY から数えて k 番目（0 から始まる）の営業日.
+	 * @param k 営業日の番号
+	 * @return エポック日、範囲外の場合は -1
+	 */
+	static long businessDayAt(long k){
+		int[] days = Tables.BUSINESS_DAYS;
+		if (k < 0 || days.length <= k) return -1;
+		return days[(int)k];
+	}
+	/**
+	 * 開始日から終了日の前日までの祝日（振替休日、国民の休日を含む）の日数.
+	 * 週末と重なる祝日も数える。
+	 * @param startEpochDay 開始日のエポック日（含む）
+	 * @param endEpochDay 終了日のエポック日（含まない）、LAST_EPOCH_DAY + 1 まで指定できる
+	 * @return 祝日数、終了日が開始日より前の場合は負の値
+	 */
+	public static int holidaysBetween(long startEpochDay, long endEpochDay){
+		if (startEpochDay < FIRST_EPOCH_DAY || LAST_EPOCH_DAY + 1 < startEpochDay
+			|| endEpochDay < FIRST_EPOCH_DAY || LAST_EPOCH_DAY + 1 < endEpochDay){
+			throw new IllegalArgumentException("epochDay parameter Error");
+		}
+		return Tables.HOLIDAY_CUMULATIVE[(int)(endEpochDay - FIRST_EPOCH_DAY)] - Tables.HOLIDAY_CUMULATIVE[(int)(startEpochDay - FIRST_EPOCH_DAY)];
+	}
+	/** 累積営業日数の表、BulkIntervalCount で直接参照する */
+	static int[] cumulativeBusinessDays(){
+		return Tables.CUMULATIVE;
+	}
+	/** 累積祝日数の表、BulkIntervalCount で直接参照する */
+	static int[] cumulativeHolidays(){
+		return Tables.HOLIDAY_CUMULATIVE;
+	}
+	/**
+	 * 開始日から終了日の前日までの営業日数.
+	 * @param start 開始日（含む）
+	 * @param end 終了日（含まない）
+	 * @return 営業日数、終了日が開始日より前の場合は負の値
+	 */
+	public static int businessDaysBetween(LocalDate start, LocalDate end){
+		return businessDaysBetween(start.toEpochDay(), end.toEpochDay());
+	}
+	/**
+	 * 指定年、月の第ｎ営業日.
+	 * @param year 西暦４桁
+	 * @param month 月
+	 * @param n 1 = 最初の営業日、負の値は月末から数える（-1 = 最終営業日）
+	 * @return 第ｎ営業日、該当する営業日が無い場合（n=0 を含む）は null
+	 */
+	public static LocalDate nthBusinessDay(int year, int month, int n){
+		int mi = monthIndex(year, month);
+		int count = Integer.bitCount(Tables.MASKS[mi]);
+		int k = n > 0 ? n - 1 : count + n;
+		if (n==0 || k < 0 || count <= k){
+			return null;
+		}
+		return LocalDate.of(year, month, Tables.SELECT[mi * 32 + k]);
+	}
+	/**
+	 * 指定日がその月の何番目の営業日か.
+	 * @param dt 指定日
+	 * @return 1 から始まる営業日の番号、営業日でなければ 0
+	 */
+	public static int businessDayIndex(LocalDate dt){
+		int mask = Tables.MASKS[monthIndex(dt.getYear(), dt.getMonthValue())];
+		int bit = 1 << (dt.getDayOfMonth() - 1);
+		if ((mask & bit)==0) return 0;
+		return Integer.bitCount(mask & ((bit << 1) - 1));
+	}
+	/**
+	 * 月初から指定日まで（指定日を含む）の営業日数.
+	 * 営業日でない日を指定した場合は、その日より前の最後の営業日の番号になる。
+	 * @param dt 指定日
+	 * @return 営業日数
+	 */
+	public static int businessDayRank(LocalDate dt){
+		int mask = Tables.MASKS[monthIndex(dt.getYear(), dt.getMonthValue())];
+		int bit = 1 << (dt.getDayOfMonth() - 1);
+		return Integer.bitCount(mask & ((bit << 1) - 1));
+	}
+}
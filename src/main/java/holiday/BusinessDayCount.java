@@ -0,0 +1,69 @@
+package holiday;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+/**
+ * 営業日ベースの日数計算（Bus/252 方式）の期間の年換算.
+ * <pre>
+ * 期間の年換算 ＝ 開始日（含む）から終了日（含まない）までの営業日数 ÷ 年間営業日数（basis）
+ * 営業日は BusinessCalendar（土曜日、日曜日、祝日以外）に従い、
+ * 営業日数は累積営業日数の表の２回の参照で求める。
+ * 例）BusinessDayCount.BUS_252.yearFraction(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 10, 1))
+ * </pre>
+ * @since 4.1
+ */
+public final class BusinessDayCount{
+	/** 年間営業日数 252 */
+	public static final BusinessDayCount BUS_252 = new BusinessDayCount(252);
+
+	private final int basis;
+
+	/**
+	 * 年間営業日数 指定コンストラクタ.
+	 * @param basis 年間営業日数
+	 */
+	public BusinessDayCount(int basis){
+		if (basis <= 0){
+			throw new IllegalArgumentException("basis parameter Error");
+		}
+		this.basis = basis;
+	}
+	/**
+	 * @return 年間営業日数
+	 */
+	public int getBasis(){
+		return basis;
+	}
+	/**
+	 * 期間の年換算.
+	 * @param startEpochDay 開始日のエポック日（含む）
+	 * @param endEpochDay 終了日のエポック日（含まない）
+	 * @return 営業日数 ÷ basis
+	 */
+	public double yearFraction(long startEpochDay, long endEpochDay){
+		return (double)BusinessCalendar.businessDaysBetween(startEpochDay, endEpochDay) / basis;
+	}
+	/**
+	 * 期間の年換算.
+	 * @param start 開始日（含む）
+	 * @param end 終了日（含まない）
+	 * @return 営業日数 ÷ basis
+	 */
+	public double yearFraction(LocalDate start, LocalDate end){
+		return yearFraction(start.toEpochDay(), end.toEpochDay());
+	}
+	/**
+	 * 開始日、終了日の配列の組ごとの期間の年換算を、複数スレッドで一括して求める.
+	 * @param startEpochDays 開始日のエポック日（含む）の配列
+	 * @param endEpochDays 終了日のエポック日（含まない）の配列
+	 * @param results 年換算の出力先（startEpochDays と同じ長さ以上）
+	 */
+	public void yearFractions(int[] startEpochDays, int[] endEpochDays, double[] results){
+		if (endEpochDays.length != startEpochDays.length || results.length < startEpochDays.length){
+			throw new IllegalArgumentException("array length Error");
+		}
+		IntStream.range(0, startEpochDays.length).parallel()
+		.forEach(i->results[i] = yearFraction(startEpochDays[i], endEpochDays[i]));
+	}
+}
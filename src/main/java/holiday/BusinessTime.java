@@ -0,0 +1,128 @@
+package holiday;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+
+/**
+ * 営業時間（SLA時間）の計算.
+ * <pre>
+ * 営業日（BusinessCalendar）の日本時間の始業～終業（休憩時間を除く）を営業時間として、
+ *   ・２つの Instant の間の営業時間
+ *   ・開始 Instant から指定の営業時間が経過する期限
+ * を求める。
+ * 営業日ごとの営業時間は同じなので、累積営業時間は累積営業日数 × １日の営業時間となり、
+ * 経過時間は累積営業日数の表の参照、期限は営業日の一覧の表の参照で求める。
+ * 対象は BusinessCalendar.FIRST_EPOCH_DAY～LAST_EPOCH_DAY の翌日（2151-01-01）の日本時間の Instant である。
+ * 例）9:00～18:00、休憩 12:00～13:00
+ *     BusinessTime t = new BusinessTime(LocalTime.of(9, 0), LocalTime.of(18, 0), LocalTime.of(12, 0), LocalTime.of(13, 0));
+ *     Instant deadline = t.deadline(Instant.now(), Duration.ofHours(16));
+ * </pre>
+ * @since 4.1
+ */
+public final class BusinessTime{
+	private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+	/** 日本時間 +09:00 の秒数 */
+	private static final int JST_OFFSET = 9 * 60 * 60;
+	private final int start;
+	private final int breakStart;
+	private final int breakEnd;
+	private final int end;
+	private final int perDay;
+
+	/**
+	 * 休憩時間なしのコンストラクタ.
+	 * @param start 始業時刻
+	 * @param end 終業時刻
+	 */
+	public BusinessTime(LocalTime start, LocalTime end){
+		this(start, end, end, end);
+	}
+	/**
+	 * 休憩時間ありのコンストラクタ.
+	 * @param start 始業時刻
+	 * @param end 終業時刻
+	 * @param breakStart 休憩開始時刻
+	 * @param breakEnd 休憩終了時刻
+	 */
+	public BusinessTime(LocalTime start, LocalTime end, LocalTime breakStart, LocalTime breakEnd){
+		this.start = start.toSecondOfDay();
+		this.end = end.toSecondOfDay();
+		this.breakStart = breakStart.toSecondOfDay();
+		this.breakEnd = breakEnd.toSecondOfDay();
+		this.perDay = (this.end - this.start) - (this.breakEnd - this.breakStart);
+		if (this.breakStart < this.start || this.breakEnd < this.breakStart || this.end < this.breakEnd || perDay <= 0){
+			throw new IllegalArgumentException("working hours parameter Error");
+		}
+	}
+	/**
+	 * @return １日の営業時間
+	 */
+	public Duration getWorkingTimePerDay(){
+		return Duration.ofSeconds(perDay);
+	}
+
+	/**
+	 * ２つの Instant の間の営業時間.
+	 * @param from 開始
+	 * @param to 終了
+	 * @return 営業時間、終了が開始より前の場合は負の値
+	 */
+	public Duration between(Instant from, Instant to){
+		return Duration.ofSeconds(secondsBetween(from.getEpochSecond(), to.getEpochSecond()));
+	}
+	/**
+	 * ２つのエポック秒の間の営業時間の秒数.
+	 * @param fromEpochSecond 開始のエポック秒
+	 * @param toEpochSecond 終了のエポック秒
+	 * @return 営業時間の秒数、終了が開始より前の場合は負の値
+	 */
+	public long secondsBetween(long fromEpochSecond, long toEpochSecond){
+		return working(toEpochSecond) - working(fromEpochSecond);
+	}
+	/**
+	 * 開始から指定の営業時間が経過する期限.
+	 * 期限がちょうど終業時刻になる場合は、翌営業日の始業時刻ではなく終業時刻を返す。
+	 * @param from 開始
+	 * @param workingTime 営業時間
+	 * @return 期限
+	 */
+	public Instant deadline(Instant from, Duration workingTime){
+		if (workingTime.isNegative()){
+			throw new IllegalArgumentException("workingTime parameter Error");
+		}
+		if (workingTime.isZero()) return from;
+		long target = working(from.getEpochSecond()) + workingTime.getSeconds();
+		long k = target / perDay;
+		int rem = (int)(target % perDay);
+		if (rem==0){
+			k--;
+			rem = perDay;
+		}
+		long day = BusinessCalendar.businessDayAt(k);
+		if (day < 0){
+			throw new IllegalArgumentException("deadline out of range Error");
+		}
+		int second = rem <= breakStart - start ? start + rem : breakEnd + rem - (breakStart - start);
+		return Instant.ofEpochSecond(day * SECONDS_PER_DAY + second - JST_OFFSET);
+	}
+
+	// BusinessCalendar.FIRST_EPOCH_DAY からの累積営業時間の秒数
+	private long working(long epochSecond){
+		long local = epochSecond + JST_OFFSET;
+		long day = Math.floorDiv(local, SECONDS_PER_DAY);
+		int second = (int)Math.floorMod(local, SECONDS_PER_DAY);
+		long n = (long)BusinessCalendar.businessDaysBetween(BusinessCalendar.FIRST_EPOCH_DAY, day) * perDay;
+		// LAST_EPOCH_DAY の翌日（範囲の終端）は営業日の表に無く、営業日ではない
+		if (day <= BusinessCalendar.LAST_EPOCH_DAY && BusinessCalendar.isBusinessDay(day)){
+			n += within(second);
+		}
+		return n;
+	}
+	// 営業日の 0:00 から指定秒までの営業時間の秒数
+	private int within(int second){
+		int morning = Math.min(Math.max(second, start), breakStart) - start;
+		int afternoon = Math.min(Math.max(second, breakEnd), end) - breakEnd;
+		return morning + afternoon;
+	}
+}
@@ -0,0 +1,299 @@
+package holiday;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Month;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * データウェアハウス用の日付ディメンション（カレンダー表）の生成.
+ * <pre>
+ * Holiday.MIN_TABLE_YEAR～Holiday.MAX_TABLE_YEAR の範囲の指定年の全日付を１日１行で、
+ * CSV（UTF-8、ヘッダ行付き）と固定長バイナリに出力する。
+ * 年ごとに Holiday.YearTable と BusinessCalendar の累積営業日数の表から並列に作成し、
+ * 処理中の年数に上限を設けて年の順にチャンネルに書き込む。
+ *
+ * CSV の列
+ *   date                 yyyy-MM-dd
+ *   epoch_day            LocalDate#toEpochDay()
+ *   weekday_ja           Holiday.dateOfWeekJA の曜日
+ *   weekday              Holiday.dateOfWeekSimple の曜日
+ *   holiday_name         祝日名、祝日でなければ空
+ *   is_holiday           1/0
+ *   is_substitute        振替休日 1/0
+ *   is_national_holiday  国民の休日 1/0
+ *   is_business_day      1/0
+ *   business_day_of_month  月の何番目の営業日か、営業日でなければ 0
+ *   business_day_of_year   年の何番目の営業日か、営業日でなければ 0
+ *   rest_days            その日を含む連続した休日（土曜日、日曜日、祝日）の日数、営業日は 0
+ *   rest_day_number      連続した休日の何日目か、営業日は 0
+ *                        rest_days が 3 以上の日が連休に含まれる日である。
+ *
+ * バイナリの１レコード（RECORD_SIZE バイト、ビッグエンディアン）
+ *   0  int    epoch_day
+ *   4  int    yyyymmdd
+ *   8  byte   曜日 1=月曜日～7=日曜日
+ *   9  byte   Holiday.YearTable#getCode の祝日コード（名前は Holiday.YearTable.nameOf）
+ *   10 byte   フラグ FLAG_HOLIDAY | FLAG_SUBSTITUTE | FLAG_NATIONAL_HOLIDAY | FLAG_BUSINESS_DAY
+ *   11 byte   business_day_of_month
+ *   12 short  business_day_of_year
+ *   14 byte   rest_days（127 で飽和）
+ *   15 byte   rest_day_number（127 で飽和）
+ * </pre>
+ * @since 4.1
+ */
+public final class DateDimension{
+	/** バイナリの１レコードのバイト数 */
+	public static final int RECORD_SIZE = 16;
+	/** フラグ：祝日 */
+	public static final int FLAG_HOLIDAY = 0x01;
+	/** フラグ：振替休日 */
+	public static final int FLAG_SUBSTITUTE = 0x02;
+	/** フラグ：国民の休日 */
+	public static final int FLAG_NATIONAL_HOLIDAY = 0x04;
+	/** フラグ：営業日 */
+	public static final int FLAG_BUSINESS_DAY = 0x08;
+	/** CSV のヘッダ行 */
+	public static final String CSV_HEADER = "date,epoch_day,weekday_ja,weekday,holiday_name,is_holiday,is_substitute,is_national_holiday,"
+		+ "is_business_day,business_day_of_month,business_day_of_year,rest_days,rest_day_number\n";
+
+	private static final byte[][] WEEKDAYS_JA = new byte[7][];
+	private static final byte[][] WEEKDAYS_SIMPLE = new byte[7][];
+	private static final byte[][] NAMES = new byte[Holiday.YearTable.SUBSTITUTE + Holiday.YearTable.TYPE_MASK + 1][];
+	static{
+		for(int w=0;w < 7;w++){
+			WEEKDAYS_JA[w] = Holiday.WEEKDAYS_JA[w].getBytes(StandardCharsets.UTF_8);
+			WEEKDAYS_SIMPLE[w] = Holiday.WEEKDAYS_SIMPLE[w].getBytes(StandardCharsets.UTF_8);
+		}
+		for(int code=0;code < NAMES.length;code++){
+			String name = Holiday.YearTable.nameOf(code);
+			NAMES[code] = name==null ? new byte[0] : name.getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	private final int fromYear;
+	private final int toYear;
+	private final int threads;
+
+	/**
+	 * コンストラクタ.
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @param threads スレッド数
+	 */
+	public DateDimension(int fromYear, int toYear, int threads){
+		if (fromYear < Holiday.MIN_TABLE_YEAR || Holiday.MAX_TABLE_YEAR < toYear || toYear < fromYear){
+			throw new IllegalArgumentException("year range parameter Error");
+		}
+		if (threads < 1){
+			throw new IllegalArgumentException("threads parameter Error");
+		}
+		this.fromYear = fromYear;
+		this.toYear = toYear;
+		this.threads = threads;
+	}
+
+	/**
+	 * 日付ディメンションを書き込む.
+	 * @param csv CSV の出力先、null の場合は出力しない
+	 * @param binary 固定長バイナリの出力先、null の場合は出力しない
+	 * @return 出力した日数
+	 * @throws IOException 入出力エラー
+	 */
+	public long write(WritableByteChannel csv, WritableByteChannel binary) throws IOException{
+		if (csv != null){
+			writeFully(csv, CSV_HEADER.getBytes(StandardCharsets.UTF_8), CSV_HEADER.length());
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		BlockingQueue<Future<Year>> pending = new ArrayBlockingQueue<>(threads * 2);
+		long days = 0;
+		try{
+			for(int y=fromYear;y <= toYear;y++){
+				// 処理中の年が上限に達していれば、先頭の年を書き込んでから投入する
+				if (pending.remainingCapacity()==0){
+					days += write(pending.take(), csv, binary);
+				}
+				int year = y;
+				pending.add(executor.submit(()->new Year(year, csv != null, binary != null)));
+			}
+			while(!pending.isEmpty()){
+				days += write(pending.take(), csv, binary);
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}finally{
+			executor.shutdownNow();
+		}
+		return days;
+	}
+	private static int write(Future<Year> future, WritableByteChannel csv, WritableByteChannel binary) throws IOException, InterruptedException{
+		Year year;
+		try{
+			year = future.get();
+		}catch(ExecutionException e){
+			throw new IOException(e.getCause());
+		}
+		if (csv != null) writeFully(csv, year.csv, year.csvLength);
+		if (binary != null) writeFully(binary, year.binary, year.binary.length);
+		return year.length;
+	}
+	private static void writeFully(WritableByteChannel channel, byte[] data, int length) throws IOException{
+		ByteBuffer b = ByteBuffer.wrap(data, 0, length);
+		while(b.hasRemaining()) channel.write(b);
+	}
+
+	// １年分の CSV とバイナリ
+	private static final class Year{
+		final int length;
+		byte[] csv;
+		int csvLength;
+		byte[] binary;
+
+		Year(int year, boolean withCsv, boolean withBinary){
+			Holiday.YearTable table = Holiday.yearTable(year);
+			int[] cumulative = BusinessCalendar.cumulativeBusinessDays();
+			length = table.length();
+			int offset = (int)(table.getFirstEpochDay() - BusinessCalendar.FIRST_EPOCH_DAY);
+			// 年初の連休（前年から続く休日）
+			int restStart = 0;
+			while(offset + restStart > 0 && isRest(cumulative, offset + restStart - 1)) restStart--;
+			if (withCsv) csv = new byte[length * 160];
+			ByteBuffer bin = withBinary ? ByteBuffer.wrap(binary = new byte[length * RECORD_SIZE]) : null;
+			int o = 0;
+			int month = 1;
+			int monthIndex = 0;
+			boolean leap = length==366;
+			int monthLength = Month.JANUARY.length(leap);
+			int restEnd = -1;
+			for(int i=0;i < length;i++){
+				if (i - monthIndex >= monthLength){
+					monthIndex += monthLength;
+					month++;
+					monthLength = Month.of(month).length(leap);
+				}
+				int day = i - monthIndex + 1;
+				int epochDay = (int)table.getFirstEpochDay() + i;
+				int k = offset + i;
+				int weekday = (int)Math.floorMod(epochDay + 3, 7L);
+				int code = table.getCode(i);
+				boolean business = !isRest(cumulative, k);
+				int ofMonth = business ? cumulative[k + 1] - cumulative[offset + monthIndex] : 0;
+				int ofYear = business ? cumulative[k + 1] - cumulative[offset] : 0;
+				int restDays = 0;
+				int restNumber = 0;
+				if (business){
+					restStart = i + 1;
+				}else{
+					if (restEnd < i){
+						restEnd = i;
+						while(offset + restEnd + 1 < cumulative.length - 1 && isRest(cumulative, offset + restEnd + 1)) restEnd++;
+					}
+					restDays = restEnd - restStart + 1;
+					restNumber = i - restStart + 1;
+				}
+				int flags = (code != 0 ? FLAG_HOLIDAY : 0)
+					| ((code & Holiday.YearTable.SUBSTITUTE) != 0 ? FLAG_SUBSTITUTE : 0)
+					| ((code & Holiday.YearTable.NATIONAL_HOLIDAY) != 0 ? FLAG_NATIONAL_HOLIDAY : 0)
+					| (business ? FLAG_BUSINESS_DAY : 0);
+				if (bin != null){
+					bin.putInt(epochDay).putInt(year * 10000 + month * 100 + day)
+					.put((byte)(weekday + 1)).put((byte)code).put((byte)flags).put((byte)ofMonth)
+					.putShort((short)ofYear).put((byte)Math.min(restDays, 127)).put((byte)Math.min(restNumber, 127));
+				}
+				if (csv != null){
+					o = digits(csv, o, year, 4);
+					csv[o++] = '-';
+					o = digits(csv, o, month, 2);
+					csv[o++] = '-';
+					o = digits(csv, o, day, 2);
+					csv[o++] = ',';
+					o = number(csv, o, epochDay);
+					csv[o++] = ',';
+					o = bytes(csv, o, WEEKDAYS_JA[weekday]);
+					csv[o++] = ',';
+					o = bytes(csv, o, WEEKDAYS_SIMPLE[weekday]);
+					csv[o++] = ',';
+					o = bytes(csv, o, NAMES[code]);
+					csv[o++] = ',';
+					csv[o++] = (byte)((flags & FLAG_HOLIDAY) != 0 ? '1' : '0');
+					csv[o++] = ',';
+					csv[o++] = (byte)((flags & FLAG_SUBSTITUTE) != 0 ? '1' : '0');
+					csv[o++] = ',';
+					csv[o++] = (byte)((flags & FLAG_NATIONAL_HOLIDAY) != 0 ? '1' : '0');
+					csv[o++] = ',';
+					csv[o++] = (byte)(business ? '1' : '0');
+					csv[o++] = ',';
+					o = number(csv, o, ofMonth);
+					csv[o++] = ',';
+					o = number(csv, o, ofYear);
+					csv[o++] = ',';
+					o = number(csv, o, restDays);
+					csv[o++] = ',';
+					o = number(csv, o, restNumber);
+					csv[o++] = '\n';
+				}
+			}
+			csvLength = o;
+		}
+	}
+	// 日のインデックス k が休日か
+	private static boolean isRest(int[] cumulative, int k){
+		return cumulative[k + 1]==cumulative[k];
+	}
+	private static int digits(byte[] b, int o, int value, int width){
+		for(int i=width - 1;i >= 0;i--){
+			b[o + i] = (byte)('0' + value % 10);
+			value /= 10;
+		}
+		return o + width;
+	}
+	private static int number(byte[] b, int o, int value){
+		if (value < 0){
+			b[o++] = '-';
+			value = -value;
+		}
+		int width = 1;
+		for(int v=value / 10;v > 0;v /= 10) width++;
+		return digits(b, o, value, width);
+	}
+	private static int bytes(byte[] b, int o, byte[] src){
+		System.arraycopy(src, 0, b, o, src.length);
+		return o + src.length;
+	}
+
+	/**
+	 * コマンドライン実行.
+	 * @param args CSV ファイル バイナリファイル [開始年 終了年]、出力しない場合は "-"
+	 * @throws IOException 入出力エラー
+	 */
+	public static void main(String[] args) throws IOException{
+		if (args.length != 2 && args.length != 4){
+			System.err.println("Usage: java holiday.DateDimension csv|- binary|- [fromYear toYear]");
+			System.exit(1);
+		}
+		int from = args.length==4 ? Integer.parseInt(args[2]) : Holiday.MIN_TABLE_YEAR;
+		int to = args.length==4 ? Integer.parseInt(args[3]) : Holiday.MAX_TABLE_YEAR;
+		DateDimension dimension = new DateDimension(from, to, Runtime.getRuntime().availableProcessors());
+		long t = System.nanoTime();
+		long days;
+		try(FileChannel csv = open(args[0]); FileChannel binary = open(args[1])){
+			days = dimension.write(csv, binary);
+		}
+		System.err.printf("%,d days  %.3f s%n", days, (System.nanoTime() - t) / 1e9);
+	}
+	private static FileChannel open(String path) throws IOException{
+		if ("-".equals(path)) return null;
+		return FileChannel.open(Paths.get(path), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+	}
+}
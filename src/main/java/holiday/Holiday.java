@@ -2,10 +2,15 @@ package holiday;
 
 import java.lang.reflect.Constructor;
 import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +64,14 @@ public class Holiday{
 	 * @return  List<Map.Entry<LocalDate, String>>
 	 */
 	public static List<Map.Entry<LocalDate, String>> listHolidays(int year){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length==0) return holidayEntries(year);
+		long start = System.nanoTime();
+		List<Map.Entry<LocalDate, String>> result = holidayEntries(year);
+		HolidayMonitor.fireBatchCompleted(ms, HolidayMonitor.Api.LIST_HOLIDAYS, year, result.size(), System.nanoTime() - start);
+		return result;
+	}
+	private static List<Map.Entry<LocalDate, String>> holidayEntries(int year){
 		Map<LocalDate, String> map = new TreeMap<>();
 		HolidayType[] holidayTypes = HolidayType.values();
 		for(int i=0;i < holidayTypes.length;i++){
@@ -261,7 +274,16 @@ public class Holiday{
 	 * @return List<HolidayDate>
 	 */
 	public static List<HolidayDate> listHolidayDate(int year){
-		Holiday h = new Holiday();
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length==0) return holidayDates(year);
+		long start = System.nanoTime();
+		List<HolidayDate> result = holidayDates(year);
+		HolidayMonitor.fireBatchCompleted(ms, HolidayMonitor.Api.LIST_HOLIDAY_DATE, year, result.size(), System.nanoTime() - start);
+		return result;
+	}
+	private static List<HolidayDate> holidayDates(int year){
+		// HolidayDate の外側インスタンス、LocalDate.now() を呼ばないように年を指定する
+		Holiday h = new Holiday(year);
 		Set<HolidayDate> set = new TreeSet<HolidayDate>();
 		Arrays.stream(MonthBundle.values()).map(m->m.getConstructors()).filter(t->t != null)
 		.forEach(t->{
@@ -286,10 +308,18 @@ public class Holiday{
 	 * @return List<HolidayDate>
 	 */
 	public static List<HolidayDate> listHolidayDate(int year, int month){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length==0) return holidayDates(year, month);
+		long start = System.nanoTime();
+		List<HolidayDate> result = holidayDates(year, month);
+		HolidayMonitor.fireBatchCompleted(ms, HolidayMonitor.Api.LIST_HOLIDAY_DATE, year, result.size(), System.nanoTime() - start);
+		return result;
+	}
+	private static List<HolidayDate> holidayDates(int year, int month){
 		if (month < 1 || 12 < month){
 			throw new IllegalArgumentException("month parameter Error");
 		}
-		Holiday h = new Holiday();
+		Holiday h = new Holiday(year);
 		MonthBundle mb = MonthBundle.valueOf(MONTH_NAMES[month - 1]);
 		Constructor<?>[] constructors = mb.getConstructors();
 		if (constructors==null) return new ArrayList<>();
@@ -316,7 +346,7 @@ public class Holiday{
 	 * @return  List<HolidayDate>
 	 */
 	public List<HolidayDate> listHolidayDate(){
-		Holiday h = new Holiday();
+		Holiday h = this;
 		Set<HolidayDate> set = new TreeSet<HolidayDate>();
 		Arrays.stream(MonthBundle.values()).map(m->m.getConstructors()).filter(t->t != null)
 		.forEach(t->{
@@ -358,6 +388,14 @@ public class Holiday{
 	 * @since 4.0 2022年～
 	 */
 	public static int[] arrayDays(int year, int month){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length==0) return holidayDays(year, month);
+		long start = System.nanoTime();
+		int[] result = holidayDays(year, month);
+		HolidayMonitor.fireBatchCompleted(ms, HolidayMonitor.Api.ARRAY_DAYS, year, result.length, System.nanoTime() - start);
+		return result;
+	}
+	private static int[] holidayDays(int year, int month){
 		if (month < 1 || 12 < month){
 			throw new IllegalArgumentException("month parameter Error");
 		}
@@ -425,6 +463,14 @@ public class Holiday{
 	 * @return List<HolidayBundle>
 	 */
 	public static List<HolidayBundle> listHolidayBundle(int year){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length==0) return holidayBundles(year);
+		long start = System.nanoTime();
+		List<HolidayBundle> result = holidayBundles(year);
+		HolidayMonitor.fireBatchCompleted(ms, HolidayMonitor.Api.LIST_HOLIDAY_BUNDLE, year, result.size(), System.nanoTime() - start);
+		return result;
+	}
+	private static List<HolidayBundle> holidayBundles(int year){
 		return Arrays.stream(MonthBundle.values()).map(m->m.getConstructors()).filter(t->t != null)
 		 .collect(()->new ArrayList<HolidayBundle>(), (r, u)->{
 			 Constructor<?>[] constructors = u;
@@ -444,6 +490,14 @@ public class Holiday{
 	 * @return List<HolidayBundle>
 	 */
 	public static List<HolidayBundle> listHolidayBundle(int year, int month){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length==0) return holidayBundles(year, month);
+		long start = System.nanoTime();
+		List<HolidayBundle> result = holidayBundles(year, month);
+		HolidayMonitor.fireBatchCompleted(ms, HolidayMonitor.Api.LIST_HOLIDAY_BUNDLE, year, result.size(), System.nanoTime() - start);
+		return result;
+	}
+	private static List<HolidayBundle> holidayBundles(int year, int month){
 		List<HolidayBundle> rtn = new ArrayList<HolidayBundle>();
 		try{
 			MonthBundle mbundle = MonthBundle.values()[month-1];
@@ -462,6 +516,15 @@ public class Holiday{
 	 * @return 祝日名を返す。祝日、振替休日に該当しなければ、null を返す
 	 */
 	public static String queryHoliday(LocalDate dt){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireCalled(ms, HolidayMonitor.Api.QUERY_HOLIDAY);
+		if (MIN_TABLE_YEAR <= dt.getYear() && dt.getYear() <= MAX_TABLE_YEAR){
+			return yearTable(dt.getYear()).getName(dt.getDayOfYear() - 1);
+		}
+		if (ms.length != 0){
+			HolidayMonitor.fireTableRequested(ms, dt.getYear());
+			HolidayMonitor.fireCacheMiss(ms, dt.getYear());
+		}
 		int month = dt.getMonthValue();
 		MonthBundle mb = MonthBundle.valueOf(MONTH_NAMES[month - 1]);
 		Constructor<?>[] constructors = mb.getConstructors();
@@ -486,10 +549,26 @@ public class Holiday{
 	}
 	/**
 	 * 指定日が祝日法による祝日かどうか.
+	 * 4.1 で isHoliday(Date)、isHoliday(Calendar)、isHoliday(CharSequence)、isHoliday(Instant) を追加したので、
+	 * isHoliday(null) はあいまいになる。isHoliday((LocalDate)null) のように型を指定すること。
 	 * @param dt 指定日
 	 * @return true=祝日である。
 	 */
 	public static boolean isHoliday(LocalDate dt){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireCalled(ms, HolidayMonitor.Api.IS_HOLIDAY);
+		return holiday(dt);
+	}
+	// isHoliday(LocalDate) の本体、監視に通知しない
+	private static boolean holiday(LocalDate dt){
+		if (MIN_TABLE_YEAR <= dt.getYear() && dt.getYear() <= MAX_TABLE_YEAR){
+			return yearTable(dt.getYear()).isHoliday(dt.getDayOfYear() - 1);
+		}
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0){
+			HolidayMonitor.fireTableRequested(ms, dt.getYear());
+			HolidayMonitor.fireCacheMiss(ms, dt.getYear());
+		}
 		int month = dt.getMonthValue();
 		MonthBundle mb = MonthBundle.valueOf(MONTH_NAMES[month - 1]);
 		Constructor<?>[] constructors = mb.getConstructors();
@@ -512,6 +591,221 @@ public class Holiday{
 		}
 		return false;
 	}
+	/**
+	 * エポック日（LocalDate#toEpochDay()）が祝日法による祝日かどうか.
+	 * @param epochDay エポック日
+	 * @return true=祝日である。
+	 * @since 4.1
+	 */
+	public static boolean isHolidayEpochDay(long epochDay){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireCalled(ms, HolidayMonitor.Api.IS_HOLIDAY_EPOCH_DAY);
+		return holidayEpochDay(epochDay);
+	}
+	// isHolidayEpochDay の本体、監視に通知しない
+	private static boolean holidayEpochDay(long epochDay){
+		if (epochDay < YEAR_FIRST_DAYS[0] || YEAR_FIRST_DAYS[YEAR_FIRST_DAYS.length - 1] <= epochDay){
+			return holiday(LocalDate.ofEpochDay(epochDay));
+		}
+		// 平均の年の長さで年を見積もり、年初のエポック日で補正する
+		int y = (int)((epochDay - YEAR_FIRST_DAYS[0]) * 400 / 146097);
+		if (epochDay < YEAR_FIRST_DAYS[y]){
+			y--;
+		}else if (YEAR_FIRST_DAYS[y + 1] <= epochDay){
+			y++;
+		}
+		return yearTable(MIN_TABLE_YEAR + y).isHoliday((int)(epochDay - YEAR_FIRST_DAYS[y]));
+	}
+	/**
+	 * エポックミリ秒の日本時間の日付が祝日法による祝日かどうか.
+	 * 日本時間は +09:00 固定として計算する。
+	 * @param epochMillis エポックミリ秒
+	 * @return true=祝日である。
+	 * @since 4.1
+	 */
+	public static boolean isHoliday(long epochMillis){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireCalled(ms, HolidayMonitor.Api.IS_HOLIDAY_EPOCH_MILLI);
+		return holidayEpochDay(Math.floorDiv(epochMillis + JST_OFFSET_MILLIS, MILLIS_PER_DAY));
+	}
+	/**
+	 * Instant の日本時間の日付が祝日法による祝日かどうか.
+	 * @param instant Instant
+	 * @return true=祝日である。
+	 * @since 4.1
+	 */
+	public static boolean isHoliday(Instant instant){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireCalled(ms, HolidayMonitor.Api.IS_HOLIDAY_INSTANT);
+		return holidayEpochDay(Math.floorDiv(instant.getEpochSecond() + JST_OFFSET_MILLIS / 1000, MILLIS_PER_DAY / 1000));
+	}
+	/**
+	 * エポックミリ秒の指定タイムゾーンの日付が祝日法による祝日かどうか.
+	 * ZoneOffset、日本（Asia/Tokyo）は時差の計算のみで日付を求める。
+	 * @param epochMillis エポックミリ秒
+	 * @param zone タイムゾーン
+	 * @return true=祝日である。
+	 * @since 4.1
+	 */
+	public static boolean isHoliday(long epochMillis, ZoneId zone){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireCalled(ms, HolidayMonitor.Api.IS_HOLIDAY_ZONE);
+		long offset;
+		if (zone instanceof ZoneOffset){
+			offset = ((ZoneOffset)zone).getTotalSeconds() * 1000L;
+		}else if ("Asia/Tokyo".equals(zone.getId()) || "Japan".equals(zone.getId())){
+			offset = JST_OFFSET_MILLIS;
+		}else{
+			offset = zone.getRules().getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L;
+		}
+		return holidayEpochDay(Math.floorDiv(epochMillis + offset, MILLIS_PER_DAY));
+	}
+	/**
+	 * java.util.Date の日本時間の日付が祝日法による祝日かどうか.
+	 * @param date java.util.Date
+	 * @return true=祝日である。
+	 * @since 4.1
+	 */
+	public static boolean isHoliday(Date date){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireCalled(ms, HolidayMonitor.Api.IS_HOLIDAY_DATE);
+		return holidayEpochDay(Math.floorDiv(date.getTime() + JST_OFFSET_MILLIS, MILLIS_PER_DAY));
+	}
+	/**
+	 * Calendar の年月日（Calendar のタイムゾーンでの日付）が祝日法による祝日かどうか.
+	 * 和暦（JapaneseImperialCalendar）、仏暦（BuddhistCalendar）などグレゴリオ暦以外の Calendar は、
+	 * 時刻（getTimeInMillis）とタイムゾーンから日付を求める。
+	 * @param cal Calendar
+	 * @return true=祝日である。
+	 * @since 4.1
+	 */
+	public static boolean isHoliday(Calendar cal){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireCalled(ms, HolidayMonitor.Api.IS_HOLIDAY_CALENDAR);
+		// BuddhistCalendar は GregorianCalendar のサブクラスなので、暦の種類で判定する
+		if ("gregory".equals(cal.getCalendarType()) && cal.get(Calendar.ERA)==GregorianCalendar.AD){
+			int y = cal.get(Calendar.YEAR);
+			if (MIN_TABLE_YEAR <= y && y <= MAX_TABLE_YEAR){
+				return yearTable(y).isHoliday(cal.get(Calendar.DAY_OF_YEAR) - 1);
+			}
+		}
+		return holiday(Instant.ofEpochMilli(cal.getTimeInMillis()).atZone(cal.getTimeZone().toZoneId()).toLocalDate());
+	}
+	/**
+	 * 日付文字列の日付が祝日法による祝日かどうか.
+	 * "yyyy-MM-dd"、"yyyy/MM/dd"、"yyyyMMdd" の書式を、String、LocalDate を生成せずに解析する。
+	 * @param text 日付文字列
+	 * @return true=祝日である。
+	 * @throws IllegalArgumentException 書式が不正、存在しない日付の場合
+	 * @since 4.1
+	 */
+	public static boolean isHoliday(CharSequence text){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireCalled(ms, HolidayMonitor.Api.IS_HOLIDAY_TEXT);
+		int n = text.length();
+		int ymd;
+		if (n==8){
+			ymd = ymd(digits(text.charAt(0), text.charAt(1), text.charAt(2), text.charAt(3))
+				, digits('0', '0', text.charAt(4), text.charAt(5)), digits('0', '0', text.charAt(6), text.charAt(7)));
+		}else if (n==10 && (text.charAt(4)=='-' || text.charAt(4)=='/') && text.charAt(7)==text.charAt(4)){
+			ymd = ymd(digits(text.charAt(0), text.charAt(1), text.charAt(2), text.charAt(3))
+				, digits('0', '0', text.charAt(5), text.charAt(6)), digits('0', '0', text.charAt(8), text.charAt(9)));
+		}else{
+			ymd = -1;
+		}
+		if (ymd < 0){
+			throw new IllegalArgumentException("text parameter Error");
+		}
+		return holidayYmd(ymd);
+	}
+	/**
+	 * バイト配列（ASCII）の日付が祝日法による祝日かどうか.
+	 * "yyyy-MM-dd"、"yyyy/MM/dd"、"yyyyMMdd" の書式を、String、LocalDate を生成せずに解析する。
+	 * @param buf バイト配列
+	 * @param offset 日付の開始位置
+	 * @param length 日付の長さ（8 または 10）
+	 * @return true=祝日である。
+	 * @throws IllegalArgumentException 書式が不正、存在しない日付の場合
+	 * @since 4.1
+	 */
+	public static boolean isHoliday(byte[] buf, int offset, int length){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireCalled(ms, HolidayMonitor.Api.IS_HOLIDAY_BYTES);
+		int ymd = parseYmd(buf, offset, length);
+		if (ymd < 0){
+			throw new IllegalArgumentException("buf parameter Error");
+		}
+		return holidayYmd(ymd);
+	}
+	/**
+	 * yyyymmdd の int 値の日付が祝日法による祝日かどうか.
+	 * @param yyyymmdd 例 20260922
+	 * @return true=祝日である。
+	 * @throws IllegalArgumentException 存在しない日付の場合
+	 * @since 4.1
+	 */
+	public static boolean isHolidayYmd(int yyyymmdd){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireCalled(ms, HolidayMonitor.Api.IS_HOLIDAY_YMD);
+		return holidayYmd(yyyymmdd);
+	}
+	// isHolidayYmd の本体、監視に通知しない
+	private static boolean holidayYmd(int yyyymmdd){
+		int y = yyyymmdd / 10000;
+		int index = dayIndex(yyyymmdd);
+		if (MIN_TABLE_YEAR <= y && y <= MAX_TABLE_YEAR){
+			return yearTable(y).isHoliday(index);
+		}
+		return holiday(LocalDate.ofYearDay(y, index + 1));
+	}
+	/**
+	 * バイト配列（ASCII）の "yyyy-MM-dd"、"yyyy/MM/dd"、"yyyyMMdd" を yyyymmdd の int 値に変換.
+	 * @return yyyymmdd、書式が不正な場合は -1（日付の存在チェックはしない）
+	 */
+	static int parseYmd(byte[] buf, int offset, int length){
+		if (length==8){
+			return ymd(digits(buf[offset], buf[offset + 1], buf[offset + 2], buf[offset + 3])
+				, digits('0', '0', buf[offset + 4], buf[offset + 5]), digits('0', '0', buf[offset + 6], buf[offset + 7]));
+		}
+		if (length==10 && (buf[offset + 4]=='-' || buf[offset + 4]=='/') && buf[offset + 7]==buf[offset + 4]){
+			return ymd(digits(buf[offset], buf[offset + 1], buf[offset + 2], buf[offset + 3])
+				, digits('0', '0', buf[offset + 5], buf[offset + 6]), digits('0', '0', buf[offset + 8], buf[offset + 9]));
+		}
+		return -1;
+	}
+	// ４桁の数字、数字以外を含む場合は -1
+	private static int digits(int c1, int c2, int c3, int c4){
+		int d1 = c1 - '0', d2 = c2 - '0', d3 = c3 - '0', d4 = c4 - '0';
+		if ((d1 | d2 | d3 | d4) < 0 || d1 > 9 || d2 > 9 || d3 > 9 || d4 > 9){
+			return -1;
+		}
+		return d1 * 1000 + d2 * 100 + d3 * 10 + d4;
+	}
+	// 年、月、日の digits の結果を yyyymmdd にする、いずれかが数字でなければ（負であれば） -1
+	private static int ymd(int year, int month, int day){
+		if (year < 0 || month < 0 || day < 0) return -1;
+		return year * 10000 + month * 100 + day;
+	}
+	/** 月の前月末までの日数（平年） */
+	private static final int[] DAYS_BEFORE_MONTH = { 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334, 365 };
+	/**
+	 * yyyymmdd の年初＝0 の日のインデックス.
+	 * @throws IllegalArgumentException 存在しない日付の場合
+	 */
+	static int dayIndex(int yyyymmdd){
+		int y = yyyymmdd / 10000;
+		int m = yyyymmdd / 100 % 100;
+		int d = yyyymmdd % 100;
+		if (yyyymmdd < 0 || m < 1 || 12 < m || d < 1){
+			throw new IllegalArgumentException("date parameter Error");
+		}
+		int leap = (y & 3)==0 && (y % 100 != 0 || y % 400==0) ? 1 : 0;
+		int length = DAYS_BEFORE_MONTH[m] - DAYS_BEFORE_MONTH[m - 1] + (m==2 ? leap : 0);
+		if (length < d){
+			throw new IllegalArgumentException("date parameter Error");
+		}
+		return DAYS_BEFORE_MONTH[m - 1] + (m > 2 ? leap : 0) + d - 1;
+	}
 	/** 曜日String算出 Japanese */
 	public static String dateOfWeekJA(LocalDate dt){
 		return WEEKDAYS_JA[dt.getDayOfWeek().getValue() - 1];
@@ -540,6 +834,225 @@ public class Holiday{
 		}
 		return new LocalDate[]{};
 	}
+
+	//========================================================================
+	/** 年間テーブルをキャッシュする最初の年 */
+	public static final int MIN_TABLE_YEAR = 2022;
+	/** 年間テーブルをキャッシュする最後の年（春分・秋分の計算式の有効範囲） */
+	public static final int MAX_TABLE_YEAR = 2150;
+	private static final YearTable[] YEAR_TABLES = new YearTable[MAX_TABLE_YEAR - MIN_TABLE_YEAR + 1];
+	/** MIN_TABLE_YEAR～MAX_TABLE_YEAR + 1 の１月１日のエポック日 */
+	private static final long[] YEAR_FIRST_DAYS = new long[MAX_TABLE_YEAR - MIN_TABLE_YEAR + 2];
+	static{
+		for(int i=0;i < YEAR_FIRST_DAYS.length;i++){
+			YEAR_FIRST_DAYS[i] = LocalDate.of(MIN_TABLE_YEAR + i, 1, 1).toEpochDay();
+		}
+	}
+	/** 日本時間 +09:00 のミリ秒（日本は夏時間が無いので固定） */
+	private static final long JST_OFFSET_MILLIS = 9L * 60 * 60 * 1000;
+	private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+	/**
+	 * 指定年の年間祝日テーブルを取得.
+	 * MIN_TABLE_YEAR～MAX_TABLE_YEAR はキャッシュされ、２回目以降は同じインスタンスを返す。
+	 * 範囲外の年は、呼出しの都度に計算する。
+	 * @param year 西暦４桁
+	 * @return YearTable
+	 * @since 4.1
+	 */
+	public static YearTable yearTable(int year){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireTableRequested(ms, year);
+		if (year < MIN_TABLE_YEAR || MAX_TABLE_YEAR < year){
+			return buildYearTable(year);
+		}
+		YearTable t = YEAR_TABLES[year - MIN_TABLE_YEAR];
+		if (t==null){
+			// YearTable は不変なので、競合して二重に生成されても問題ない
+			t = buildYearTable(year);
+			YEAR_TABLES[year - MIN_TABLE_YEAR] = t;
+		}
+		return t;
+	}
+	private static YearTable buildYearTable(int year){
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length==0) return new YearTable(year);
+		HolidayMonitor.fireCacheMiss(ms, year);
+		long start = System.nanoTime();
+		YearTable t = new YearTable(year);
+		HolidayMonitor.fireYearTableBuilt(ms, year, System.nanoTime() - start);
+		return t;
+	}
+	/**
+	 * 年間テーブルのキャッシュを破棄する.
+	 * 次の参照時に、祝日の規則から年間テーブルを作成し直す。
+	 * @since 4.1
+	 */
+	public static void clearTables(){
+		Arrays.fill(YEAR_TABLES, null);
+		HolidayMonitor[] ms = HolidayMonitor.monitors;
+		if (ms.length != 0) HolidayMonitor.fireTablesCleared(ms);
+	}
+	/**
+	 * キャッシュ済の年間テーブル.
+	 * @return キャッシュ済の年の YearTable（年の順）
+	 */
+	static List<YearTable> residentTables(){
+		List<YearTable> list = new ArrayList<>();
+		for(YearTable t : YEAR_TABLES){
+			if (t != null) list.add(t);
+		}
+		return list;
+	}
+	/**
+	 * 年間祝日テーブル.
+	 * <pre>
+	 * 祝日、振替休日、国民の休日を、年初（１月１日）を 0 とする日のインデックスのビットで保持する。
+	 * ビットマップは long[6] で、インデックス i の日は (bitmap[i >> 6] >>> i) & 1 で参照する。
+	 * 日ごとの祝日コードは、下位５ビットが HolidayType の ordinal()+1、
+	 * 振替休日は SUBSTITUTE、国民の休日は NATIONAL_HOLIDAY のビットを立てた値で、祝日でない日は 0 である。
+	 * 不変オブジェクトであり、スレッド間で共有できる。
+	 * </pre>
+	 * @since 4.1
+	 */
+	public static final class YearTable{
+		/** 祝日コード：HolidayType の ordinal()+1 を取り出すマスク */
+		public static final int TYPE_MASK = 0x1f;
+		/** 祝日コード：国民の休日 */
+		public static final int NATIONAL_HOLIDAY = 0x20;
+		/** 祝日コード：振替休日のビット */
+		public static final int SUBSTITUTE = 0x40;
+		private static final String[] NAMES = new String[SUBSTITUTE + TYPE_MASK + 1];
+		/** HolidayType.values() は呼出しの都度に配列を複製するので保持する */
+		private static final HolidayType[] TYPES = HolidayType.values();
+		static{
+			HolidayType[] types = HolidayType.values();
+			for(int i=0;i < types.length;i++){
+				String description = types[i].getBundle(MIN_TABLE_YEAR).getDescription();
+				NAMES[i + 1] = description;
+				NAMES[SUBSTITUTE | (i + 1)] = "振替休日"+"（"+description+"）";
+			}
+			NAMES[NATIONAL_HOLIDAY] = "国民の休日";
+		}
+		private final int year;
+		private final long firstEpochDay;
+		private final int length;
+		private final long[] bitmap = new long[6];
+		private final byte[] codes;
+		private YearTable(int year){
+			this.year = year;
+			LocalDate first = LocalDate.of(year, 1, 1);
+			this.firstEpochDay = first.toEpochDay();
+			this.length = first.lengthOfYear();
+			this.codes = new byte[length];
+			HolidayType[] holidayTypes = HolidayType.values();
+			for(int i=0;i < holidayTypes.length;i++){
+				HolidayBundle hb = holidayTypes[i].getBundle(year);
+				if (hb != null){
+					set(hb.getDate(), i + 1);
+					LocalDate chgdt = hb.getChangeDate();
+					if (chgdt != null) set(chgdt, SUBSTITUTE | (i + 1));
+				}
+			}
+			for(LocalDate d : getNatinalHoliday(year)){
+				set(d, NATIONAL_HOLIDAY);
+			}
+		}
+		private void set(LocalDate d, int code){
+			int i = d.getDayOfYear() - 1;
+			bitmap[i >> 6] |= 1L << i;
+			codes[i] = (byte)code;
+		}
+		/**
+		 * 年の参照.
+		 * @return 西暦４桁
+		 */
+		public int getYear(){
+			return year;
+		}
+		/**
+		 * １月１日の LocalDate#toEpochDay() 値.
+		 * @return エポック日
+		 */
+		public long getFirstEpochDay(){
+			return firstEpochDay;
+		}
+		/**
+		 * 年の日数.
+		 * @return 365 or 366
+		 */
+		public int length(){
+			return length;
+		}
+		/**
+		 * 日のインデックスで祝日判定.
+		 * @param index 年初＝0 の日のインデックス
+		 * @return true=祝日、振替休日、国民の休日である。
+		 */
+		public boolean isHoliday(int index){
+			if (index < 0 || length <= index) return false;
+			return (bitmap[index >> 6] & (1L << index)) != 0;
+		}
+		/**
+		 * 日のインデックスで祝日コードを取得.
+		 * @param index 年初＝0 の日のインデックス
+		 * @return 祝日コード、祝日でなければ 0
+		 */
+		public int getCode(int index){
+			if (index < 0 || length <= index) return 0;
+			return codes[index];
+		}
+		/**
+		 * 日のインデックスで祝日名を取得.
+		 * @param index 年初＝0 の日のインデックス
+		 * @return queryHoliday(LocalDate) と同じ祝日名、祝日でなければ null
+		 */
+		public String getName(int index){
+			return nameOf(getCode(index));
+		}
+		/**
+		 * 日のインデックスで HolidayType を取得.
+		 * @param index 年初＝0 の日のインデックス
+		 * @return 祝日、振替休日の元の祝日の HolidayType、国民の休日、祝日でなければ null
+		 */
+		public HolidayType getHolidayType(int index){
+			int t = getCode(index) & TYPE_MASK;
+			return t==0 ? null : TYPES[t - 1];
+		}
+		/**
+		 * 祝日コードから祝日名を取得.
+		 * @param code 祝日コード
+		 * @return 祝日名、祝日コードが 0 または不正であれば null
+		 */
+		public static String nameOf(int code){
+			if (code <= 0 || NAMES.length <= code) return null;
+			return NAMES[code];
+		}
+		/**
+		 * 祝日の数.
+		 * @return 祝日、振替休日、国民の休日の日数
+		 */
+		public int count(){
+			int n = 0;
+			for(long w : bitmap) n += Long.bitCount(w);
+			return n;
+		}
+		/**
+		 * 祝日ビットマップの複製を返す.
+		 * @return long[6]
+		 */
+		public long[] toBitmap(){
+			return bitmap.clone();
+		}
+		/**
+		 * ヒープ上の大きさの見積り（オブジェクトヘッダ 12、参照 4 バイトの場合）.
+		 * @return バイト数
+		 */
+		long estimatedSize(){
+			// YearTable 40 + long[6] 64 + byte[length]
+			return 40 + 64 + ((16 + length + 7) & ~7);
+		}
+	}
+
 	//========================================================================
 	// 元旦
 	class NewYearDayBundle extends HolidayBundle{
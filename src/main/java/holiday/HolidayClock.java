@@ -0,0 +1,122 @@
+package holiday;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 「今日」の祝日、営業日判定.
+ * <pre>
+ * 日本時間の今日が祝日か、週末か、営業日かを java.time.Clock から求める。
+ * 判定結果は日本時間の翌日 0:00 まで保持するので、同じ日の２回目以降の呼出しは
+ * Clock#millis() と volatile フィールドの参照、比較だけで終わる。
+ * テストでは Clock.fixed(...) などを指定して生成する。
+ * 例）HolidayClock.system().isTodayHoliday()
+ * </pre>
+ * @since 4.1
+ */
+public final class HolidayClock{
+	/** 日本時間 */
+	public static final ZoneId JST = ZoneId.of("Asia/Tokyo");
+	/** 日本時間 +09:00 のミリ秒（日本は夏時間が無いので固定） */
+	private static final long JST_OFFSET_MILLIS = 9L * 60 * 60 * 1000;
+	private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+	private static final HolidayClock SYSTEM = new HolidayClock(Clock.system(JST));
+
+	/** 今日の状態 */
+	public enum Status{
+		/** 営業日 */ BUSINESS_DAY,
+		/** 土曜日、日曜日（祝日を除く） */ WEEKEND,
+		/** 祝日、振替休日、国民の休日 */ HOLIDAY
+	}
+
+	private final Clock clock;
+	private volatile Today today = new Today(Long.MIN_VALUE, Status.BUSINESS_DAY, null);
+
+	/**
+	 * Clock 指定コンストラクタ.
+	 * Clock のタイムゾーンは使わず、日本時間で日付を求める。
+	 * @param clock Clock
+	 */
+	public HolidayClock(Clock clock){
+		this.clock = clock;
+	}
+	/**
+	 * システム時計の HolidayClock.
+	 * @return HolidayClock
+	 */
+	public static HolidayClock system(){
+		return SYSTEM;
+	}
+
+	/**
+	 * 今日が祝日かどうか.
+	 * @return true=祝日、振替休日、国民の休日である。
+	 */
+	public boolean isTodayHoliday(){
+		return current().status==Status.HOLIDAY;
+	}
+	/**
+	 * 今日が営業日かどうか.
+	 * @return true=土曜日、日曜日、祝日以外である。
+	 */
+	public boolean isTodayBusinessDay(){
+		return current().status==Status.BUSINESS_DAY;
+	}
+	/**
+	 * 今日の状態.
+	 * @return Status
+	 */
+	public Status todayStatus(){
+		return current().status;
+	}
+	/**
+	 * 今日の祝日名.
+	 * @return Holiday.queryHoliday(LocalDate) と同じ祝日名、祝日でなければ null
+	 */
+	public String todayHolidayName(){
+		return current().name;
+	}
+	/**
+	 * 今日の日付（日本時間）.
+	 * @return LocalDate
+	 */
+	public LocalDate today(){
+		return LocalDate.ofEpochDay(current().epochDay);
+	}
+
+	private Today current(){
+		Today t = today;
+		long epochDay = Math.floorDiv(clock.millis() + JST_OFFSET_MILLIS, MILLIS_PER_DAY);
+		if (t.epochDay != epochDay){
+			t = Today.of(epochDay);
+			today = t;
+		}
+		return t;
+	}
+
+	// 日ごとの判定結果（不変）
+	private static final class Today{
+		final long epochDay;
+		final Status status;
+		final String name;
+		Today(long epochDay, Status status, String name){
+			this.epochDay = epochDay;
+			this.status = status;
+			this.name = name;
+		}
+		static Today of(long epochDay){
+			LocalDate dt = LocalDate.ofEpochDay(epochDay);
+			String name = Holiday.yearTable(dt.getYear()).getName(dt.getDayOfYear() - 1);
+			if (name != null){
+				return new Today(epochDay, Status.HOLIDAY, name);
+			}
+			DayOfWeek w = dt.getDayOfWeek();
+			if (w==DayOfWeek.SATURDAY || w==DayOfWeek.SUNDAY){
+				return new Today(epochDay, Status.WEEKEND, null);
+			}
+			return new Today(epochDay, Status.BUSINESS_DAY, null);
+		}
+	}
+}
@@ -0,0 +1,296 @@
+package holiday;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Locale;
+
+/**
+ * 祝日、営業日を指定できる cron 形式のスケジュール式.
+ * <pre>
+ * 書式：分 時 日 月 曜日 [カレンダー]
+ *   分         0-59
+ *   時         0-23
+ *   日         1-31、L（月末日）、LBD（最終営業日）、nBD（第ｎ営業日 例 3BD）
+ *   月         1-12
+ *   曜日       0-7（0,7=日曜日）または SUN,MON,TUE,WED,THU,FRI,SAT
+ *   カレンダー BUSINESS（営業日のみ）、HOLIDAY（祝日のみ）、
+ *              !HOLIDAY（祝日を除く）、!NATIONAL（国民の休日を除く）、!SUBSTITUTE（振替休日を除く）
+ *              カンマ区切りで複数指定した場合は全てを満たす日
+ * 各フィールドは * 、カンマ区切りのリスト、範囲 a-b、間隔 * /s a-b/s が使える。
+ * 標準の cron と異なり、日と曜日の両方を指定した場合は両方を満たす日とする。
+ * 例）営業日の 9:00          "0 9 * * * BUSINESS"
+ *     月の最終営業日 17:30   "30 17 LBD * *"
+ *     国民の休日を除く平日   "0 8 * * MON-FRI !NATIONAL"
+ * 次回の起動日時は、月ごとの日のビットマスク（日、曜日、営業日、祝日）の論理積から
+ * 該当する日を直接求めるので、日単位、分単位の探索は行わない。
+ * 日時は日本時間で扱い、Holiday.MAX_TABLE_YEAR の年末までを対象にする。
+ * </pre>
+ * @since 4.1
+ */
+public final class HolidayCron{
+	private static final ZoneOffset JST = ZoneOffset.ofHours(9);
+	private static final int MONTHS = (Holiday.MAX_TABLE_YEAR - Holiday.MIN_TABLE_YEAR + 1) * 12;
+	private static final String[] DAY_NAMES = {"SUN","MON","TUE","WED","THU","FRI","SAT"};
+	private static final int CAL_BUSINESS = 1;
+	private static final int CAL_HOLIDAY = 2;
+	private static final int CAL_NOT_HOLIDAY = 4;
+	private static final int CAL_NOT_NATIONAL = 8;
+	private static final int CAL_NOT_SUBSTITUTE = 16;
+
+	// 祝日の月ごとのビットマスクは最初の参照時に作成する
+	private static final class Masks{
+		static final int[] HOLIDAYS = new int[MONTHS];
+		static final int[] NATIONALS = new int[MONTHS];
+		static final int[] SUBSTITUTES = new int[MONTHS];
+		static{
+			for(int mi=0;mi < MONTHS;mi++){
+				Holiday.YearTable table = Holiday.yearTable(Holiday.MIN_TABLE_YEAR + mi / 12);
+				int first = BusinessCalendar.monthStart(mi);
+				int length = BusinessCalendar.monthStart(mi + 1) - first;
+				int offset = (int)(first - table.getFirstEpochDay());
+				for(int d=0;d < length;d++){
+					int code = table.getCode(offset + d);
+					if (code==0) continue;
+					HOLIDAYS[mi] |= 1 << d;
+					if (code==Holiday.YearTable.NATIONAL_HOLIDAY) NATIONALS[mi] |= 1 << d;
+					if ((code & Holiday.YearTable.SUBSTITUTE) != 0) SUBSTITUTES[mi] |= 1 << d;
+				}
+			}
+		}
+	}
+
+	private final String expression;
+	private final long minutes;
+	private final int hours;
+	private final int days;
+	private final boolean lastDay;
+	private final boolean lastBusinessDay;
+	private final int nthBusinessDays;
+	private final int months;
+	private final int weekdays;
+	private final int calendar;
+
+	private HolidayCron(String expression, long minutes, int hours, int days, boolean lastDay, boolean lastBusinessDay
+			, int nthBusinessDays, int months, int weekdays, int calendar){
+		this.expression = expression;
+		this.minutes = minutes;
+		this.hours = hours;
+		this.days = days;
+		this.lastDay = lastDay;
+		this.lastBusinessDay = lastBusinessDay;
+		this.nthBusinessDays = nthBusinessDays;
+		this.months = months;
+		this.weekdays = weekdays;
+		this.calendar = calendar;
+	}
+
+	/**
+	 * スケジュール式の解析.
+	 * @param expression スケジュール式
+	 * @return HolidayCron
+	 * @throws IllegalArgumentException 書式が不正な場合
+	 */
+	public static HolidayCron parse(String expression){
+		String[] f = expression.trim().split("\\s+");
+		if (f.length < 5 || 6 < f.length){
+			throw new IllegalArgumentException("cron expression Error : " + expression);
+		}
+		long minutes = 0;
+		for(int m : values(f[0], 0, 59, null)) minutes |= 1L << m;
+		int hours = bits(f[1], 0, 23, null);
+		// 日：L, LBD, nBD は個別に取り出す
+		int days = 0;
+		boolean lastDay = false;
+		boolean lastBusinessDay = false;
+		int nth = 0;
+		if ("*".equals(f[2])){
+			days = 0x7fffffff;
+		}else{
+			for(String item : f[2].split(",")){
+				String s = item.toUpperCase(Locale.ROOT);
+				if ("L".equals(s)){
+					lastDay = true;
+				}else if ("LBD".equals(s)){
+					lastBusinessDay = true;
+				}else if (s.endsWith("BD")){
+					int n = number(s.substring(0, s.length() - 2), 1, 23, expression);
+					nth |= 1 << (n - 1);
+				}else{
+					days |= bits(item, 1, 31, null) >>> 1;
+				}
+			}
+		}
+		int months = bits(f[3], 1, 12, null) >>> 1;
+		int weekdays = bits(f[4], 0, 7, DAY_NAMES);
+		// 7 → 日曜日(0)
+		if ((weekdays & 0x80) != 0) weekdays = (weekdays | 1) & 0x7f;
+		int calendar = 0;
+		if (f.length==6){
+			for(String item : f[5].toUpperCase(Locale.ROOT).split(",")){
+				switch(item){
+					case "BUSINESS": calendar |= CAL_BUSINESS; break;
+					case "HOLIDAY": calendar |= CAL_HOLIDAY; break;
+					case "!HOLIDAY": calendar |= CAL_NOT_HOLIDAY; break;
+					case "!NATIONAL": calendar |= CAL_NOT_NATIONAL; break;
+					case "!SUBSTITUTE": calendar |= CAL_NOT_SUBSTITUTE; break;
+					default: throw new IllegalArgumentException("cron expression Error : " + expression);
+				}
+			}
+		}
+		if (minutes==0 || hours==0 || days==0 && !lastDay && !lastBusinessDay && nth==0 || months==0 || weekdays==0){
+			throw new IllegalArgumentException("cron expression Error : " + expression);
+		}
+		return new HolidayCron(expression, minutes, hours, days, lastDay, lastBusinessDay, nth, months, weekdays, calendar);
+	}
+	private static int bits(String field, int min, int max, String[] names){
+		int rtn = 0;
+		for(int v : values(field, min, max, names)) rtn |= 1 << v;
+		return rtn;
+	}
+	private static int[] values(String field, int min, int max, String[] names){
+		boolean[] set = new boolean[max + 1];
+		for(String item : field.split(",")){
+			int step = 1;
+			String range = item;
+			int slash = item.indexOf('/');
+			if (slash >= 0){
+				step = number(item.substring(slash + 1), 1, max, field);
+				range = item.substring(0, slash);
+			}
+			int from, to;
+			if ("*".equals(range)){
+				from = min;
+				to = max;
+			}else{
+				int dash = range.indexOf('-');
+				from = value(dash < 0 ? range : range.substring(0, dash), min, max, names, field);
+				to = dash < 0 ? (slash >= 0 ? max : from) : value(range.substring(dash + 1), min, max, names, field);
+			}
+			if (to < from){
+				throw new IllegalArgumentException("cron field Error : " + field);
+			}
+			for(int v=from;v <= to;v += step) set[v] = true;
+		}
+		int n = 0;
+		for(boolean b : set) if (b) n++;
+		int[] rtns = new int[n];
+		n = 0;
+		for(int v=0;v <= max;v++) if (set[v]) rtns[n++] = v;
+		return rtns;
+	}
+	private static int value(String s, int min, int max, String[] names, String field){
+		if (names != null){
+			for(int i=0;i < names.length;i++){
+				if (names[i].equalsIgnoreCase(s)) return i;
+			}
+		}
+		return number(s, min, max, field);
+	}
+	private static int number(String s, int min, int max, String field){
+		try{
+			int v = Integer.parseInt(s);
+			if (min <= v && v <= max) return v;
+		}catch(NumberFormatException e){
+		}
+		throw new IllegalArgumentException("cron field Error : " + field);
+	}
+
+	/**
+	 * 指定日時より後の次回の起動日時（日本時間）.
+	 * @param after 基準日時（日本時間）
+	 * @return 次回の起動日時、Holiday.MAX_TABLE_YEAR の年末までに無ければ null
+	 */
+	public LocalDateTime nextFireTime(LocalDateTime after){
+		long epochDay = after.toLocalDate().toEpochDay();
+		int minuteOfDay = after.getHour() * 60 + after.getMinute() + 1;
+		long fire = next(epochDay, minuteOfDay);
+		if (fire < 0) return null;
+		return LocalDateTime.ofEpochSecond(fire * 60, 0, ZoneOffset.UTC);
+	}
+	/**
+	 * 指定時刻より後の次回の起動時刻.
+	 * @param after 基準時刻
+	 * @return 次回の起動時刻、Holiday.MAX_TABLE_YEAR の年末までに無ければ null
+	 */
+	public Instant nextFireTime(Instant after){
+		long local = Math.floorDiv(after.getEpochSecond() + JST.getTotalSeconds(), 60) + 1;
+		long fire = next(Math.floorDiv(local, 1440), (int)Math.floorMod(local, 1440));
+		if (fire < 0) return null;
+		return Instant.ofEpochSecond(fire * 60 - JST.getTotalSeconds());
+	}
+
+	// epochDay の minuteOfDay 以降の最初の起動時刻（日本時間のエポック分）、無ければ -1
+	private long next(long epochDay, int minuteOfDay){
+		if (minuteOfDay >= 1440){
+			epochDay++;
+			minuteOfDay = 0;
+		}
+		if (epochDay < BusinessCalendar.FIRST_EPOCH_DAY){
+			epochDay = BusinessCalendar.FIRST_EPOCH_DAY;
+			minuteOfDay = 0;
+		}
+		int mi = BusinessCalendar.monthIndexOf(epochDay);
+		int fromDay = (int)(epochDay - BusinessCalendar.monthStart(Math.min(mi, MONTHS - 1)));
+		for(;mi < MONTHS;mi++, fromDay = 0, minuteOfDay = 0){
+			if ((months & (1 << (mi % 12))) == 0) continue;
+			int mask = dayMask(mi) & (-1 << fromDay);
+			while(mask != 0){
+				int d = Integer.numberOfTrailingZeros(mask);
+				int m = nextMinute(d==fromDay ? minuteOfDay : 0);
+				if (m >= 0){
+					return ((long)BusinessCalendar.monthStart(mi) + d) * 1440 + m;
+				}
+				mask &= mask - 1;
+			}
+		}
+		return -1;
+	}
+	// 月のインデックスの起動日のビットマスク
+	private int dayMask(int mi){
+		int first = BusinessCalendar.monthStart(mi);
+		int length = BusinessCalendar.monthStart(mi + 1) - first;
+		int all = length==31 ? 0x7fffffff : (1 << length) - 1;
+		int business = BusinessCalendar.businessDayMask(Holiday.MIN_TABLE_YEAR + mi / 12, mi % 12 + 1);
+		int mask = days & all;
+		if (lastDay) mask |= 1 << (length - 1);
+		if (lastBusinessDay && business != 0) mask |= Integer.highestOneBit(business);
+		if (nthBusinessDays != 0){
+			int k = 0;
+			for(int b=business;b != 0;b &= b - 1, k++){
+				if ((nthBusinessDays & (1 << k)) != 0) mask |= Integer.lowestOneBit(b);
+			}
+		}
+		if (weekdays != 0x7f){
+			// 1日の曜日（0=日曜日）から、曜日の７ビットを月の日に並べる
+			int dow = (int)Math.floorMod(first + 4L, 7L);
+			int week = ((weekdays | (weekdays << 7)) >>> dow) & 0x7f;
+			mask &= week | (week << 7) | (week << 14) | (week << 21) | (week << 28);
+		}
+		if ((calendar & CAL_BUSINESS) != 0) mask &= business;
+		if ((calendar & CAL_HOLIDAY) != 0) mask &= Masks.HOLIDAYS[mi];
+		if ((calendar & CAL_NOT_HOLIDAY) != 0) mask &= ~Masks.HOLIDAYS[mi];
+		if ((calendar & CAL_NOT_NATIONAL) != 0) mask &= ~Masks.NATIONALS[mi];
+		if ((calendar & CAL_NOT_SUBSTITUTE) != 0) mask &= ~Masks.SUBSTITUTES[mi];
+		return mask;
+	}
+	// minuteOfDay 以降の最初の起動時分（0時からの分）、無ければ -1
+	private int nextMinute(int minuteOfDay){
+		int h = minuteOfDay / 60;
+		int m = minuteOfDay % 60;
+		for(int hs = hours & (-1 << h);hs != 0;hs &= hs - 1, m = 0){
+			int hour = Integer.numberOfTrailingZeros(hs);
+			if (hour != h) m = 0;
+			long ms = minutes & (-1L << m);
+			if (ms != 0){
+				return hour * 60 + Long.numberOfTrailingZeros(ms);
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public String toString(){
+		return expression;
+	}
+}
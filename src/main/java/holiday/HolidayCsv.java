@@ -0,0 +1,285 @@
+package holiday;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * CSV/TSV に祝日の列を追加するコマンドラインツール.
+ * <pre>
+ * 使い方：java holiday.HolidayCsv 入力ファイル 出力ファイル 日付列番号(0～) [-d 区切り文字] [-t スレッド数] [-h]
+ *   -d  区切り文字  , （既定）または tab
+ *   -t  スレッド数  既定は CPU 数
+ *   -h  先頭行をヘッダとして扱う
+ * 各行の末尾に is_holiday（1/0）、holiday_name、is_business_day（1/0）の列を追加する。
+ * 日付列は "yyyy-MM-dd"、"yyyy/MM/dd"、"yyyyMMdd"（ダブルクォートで囲まれていてもよい）で、
+ * ダブルクォートで囲まれたフィールド内の改行（RFC 4180）は行の区切りとしない。
+ * 解析できない日付、Holiday.MIN_TABLE_YEAR～Holiday.MAX_TABLE_YEAR 以外の日付の行は空の列を追加する。
+ * 入力を固定長のチャンクで読み込み、行単位に区切ってスレッドで並列に処理し、行の順序を保って書き込む。
+ * 処理中のチャンク数に上限があるので、ファイルの大きさに関係なく使用メモリは一定である。
+ * 終了時に処理行数と rows/s を標準エラーに出力する。
+ * </pre>
+ * @since 4.1
+ */
+public final class HolidayCsv{
+	/** チャンクの大きさ、１行はこれより短いこと */
+	private static final int CHUNK_SIZE = 4 << 20;
+	private static final byte[] HEADER_COLUMNS = "is_holiday\u0000holiday_name\u0000is_business_day".getBytes(StandardCharsets.UTF_8);
+	private static final byte[][] NAMES = new byte[Holiday.YearTable.SUBSTITUTE + Holiday.YearTable.TYPE_MASK + 1][];
+	static{
+		for(int code=0;code < NAMES.length;code++){
+			String name = Holiday.YearTable.nameOf(code);
+			NAMES[code] = name==null ? new byte[0] : name.getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	private final int column;
+	private final byte delimiter;
+	private final boolean header;
+	private final int threads;
+	private final int chunkSize;
+
+	/**
+	 * コンストラクタ.
+	 * @param column 日付列番号（0 から始まる）
+	 * @param delimiter 区切り文字
+	 * @param header true=先頭行をヘッダとして扱う
+	 * @param threads スレッド数
+	 */
+	public HolidayCsv(int column, char delimiter, boolean header, int threads){
+		this(column, delimiter, header, threads, CHUNK_SIZE);
+	}
+	// チャンクの大きさを指定（テスト用）
+	HolidayCsv(int column, char delimiter, boolean header, int threads, int chunkSize){
+		if (column < 0 || threads < 1 || delimiter > 0x7f || chunkSize < 1){
+			throw new IllegalArgumentException("parameter Error");
+		}
+		this.column = column;
+		this.delimiter = (byte)delimiter;
+		this.header = header;
+		this.threads = threads;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 入力チャンネルを読み込み、祝日の列を追加して出力チャンネルに書き込む.
+	 * @param in 入力
+	 * @param out 出力
+	 * @return 処理した行数
+	 * @throws IOException 入出力エラー、または１行がチャンクより長い場合
+	 */
+	public long enrich(FileChannel in, FileChannel out) throws IOException{
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		BlockingQueue<Future<Chunk>> pending = new ArrayBlockingQueue<>(threads * 2);
+		ByteBuffer buf = ByteBuffer.allocate(chunkSize);
+		long rows = 0;
+		boolean first = header;
+		try{
+			boolean eof = false;
+			while(!eof){
+				eof = in.read(buf) < 0;
+				int end = buf.position();
+				if (!eof){
+					// ダブルクォートの外の最後の改行までを１チャンクにする
+					end = lastLineEnd(buf.array(), end);
+					if (end==0){
+						if (buf.hasRemaining()) continue;
+						throw new IOException("line too long Error");
+					}
+				}
+				if (end > 0){
+					byte[] data = Arrays.copyOf(buf.array(), end);
+					boolean withHeader = first;
+					first = false;
+					// 処理中のチャンクが上限に達していれば、先頭のチャンクを書き込んでから投入する
+					if (pending.remainingCapacity()==0){
+						rows += write(pending.take(), out);
+					}
+					pending.add(executor.submit(()->process(data, withHeader)));
+				}
+				// 残りを先頭に移す
+				int rest = buf.position() - end;
+				System.arraycopy(buf.array(), end, buf.array(), 0, rest);
+				buf.position(rest);
+			}
+			while(!pending.isEmpty()){
+				rows += write(pending.take(), out);
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}finally{
+			executor.shutdownNow();
+		}
+		return rows;
+	}
+	// ダブルクォートの外の最後の改行の次の位置、無ければ 0（チャンクの先頭はダブルクォートの外である）
+	private static int lastLineEnd(byte[] data, int length){
+		boolean quoted = false;
+		int end = 0;
+		for(int i=0;i < length;i++){
+			if (data[i]=='"') quoted = !quoted;
+			else if (data[i]=='\n' && !quoted) end = i + 1;
+		}
+		return end;
+	}
+	private static long write(Future<Chunk> future, FileChannel out) throws IOException, InterruptedException{
+		Chunk chunk;
+		try{
+			chunk = future.get();
+		}catch(ExecutionException e){
+			throw new IOException(e.getCause());
+		}
+		ByteBuffer b = ByteBuffer.wrap(chunk.data, 0, chunk.length);
+		while(b.hasRemaining()) out.write(b);
+		return chunk.rows;
+	}
+
+	// 処理済みのチャンク
+	private static final class Chunk{
+		final byte[] data;
+		final int length;
+		final int rows;
+		Chunk(byte[] data, int length, int rows){
+			this.data = data;
+			this.length = length;
+			this.rows = rows;
+		}
+	}
+
+	// チャンク内の各行に列を追加する
+	private Chunk process(byte[] data, boolean withHeader){
+		// 追加列は１行あたり高々 5 + 名前の長さ（UTF-8 で 60 バイト未満）
+		int lines = 0;
+		for(byte b : data) if (b=='\n') lines++;
+		byte[] out = new byte[data.length + (lines + 1) * 64];
+		int o = 0;
+		int rows = 0;
+		int start = 0;
+		while(start < data.length){
+			// ダブルクォート内の改行はフィールドの一部
+			int nl = start;
+			boolean quoted = false;
+			for(;nl < data.length;nl++){
+				if (data[nl]=='"') quoted = !quoted;
+				else if (data[nl]=='\n' && !quoted) break;
+			}
+			int end = nl;
+			if (end > start && data[end - 1]=='\r') end--;
+			System.arraycopy(data, start, out, o, end - start);
+			o += end - start;
+			if (withHeader){
+				withHeader = false;
+				out[o++] = delimiter;
+				for(byte b : HEADER_COLUMNS){
+					out[o++] = b==0 ? delimiter : b;
+				}
+			}else{
+				o = columns(data, start, end, out, o);
+				rows++;
+			}
+			System.arraycopy(data, end, out, o, Math.min(nl + 1, data.length) - end);
+			o += Math.min(nl + 1, data.length) - end;
+			start = nl + 1;
+		}
+		return new Chunk(out, o, rows);
+	}
+	// 日付列を探して、追加列を書き込む
+	private int columns(byte[] data, int start, int end, byte[] out, int o){
+		int s = start;
+		for(int c=0;c < column && s <= end;c++){
+			s = fieldEnd(data, s, end) + 1;
+		}
+		int code = -1;
+		int weekday = -1;
+		if (s <= end){
+			int e = fieldEnd(data, s, end);
+			if (e - s >= 2 && data[s]=='"' && data[e - 1]=='"'){
+				s++;
+				e--;
+			}
+			int ymd = Holiday.parseYmd(data, s, e - s);
+			int y = ymd / 10000;
+			if (ymd > 0 && Holiday.MIN_TABLE_YEAR <= y && y <= Holiday.MAX_TABLE_YEAR){
+				try{
+					int index = Holiday.dayIndex(ymd);
+					Holiday.YearTable table = Holiday.yearTable(y);
+					code = table.getCode(index);
+					// 0=月曜日
+					weekday = (int)Math.floorMod(table.getFirstEpochDay() + index + 3, 7L);
+				}catch(IllegalArgumentException ex){
+				}
+			}
+		}
+		out[o++] = delimiter;
+		if (code >= 0) out[o++] = (byte)(code==0 ? '0' : '1');
+		out[o++] = delimiter;
+		if (code > 0){
+			System.arraycopy(NAMES[code], 0, out, o, NAMES[code].length);
+			o += NAMES[code].length;
+		}
+		out[o++] = delimiter;
+		if (code >= 0) out[o++] = (byte)(code==0 && weekday < 5 ? '1' : '0');
+		return o;
+	}
+	// ダブルクォートを考慮したフィールドの終わり（区切り文字または行末の位置）
+	private int fieldEnd(byte[] data, int s, int end){
+		boolean quoted = false;
+		for(int i=s;i < end;i++){
+			if (data[i]=='"') quoted = !quoted;
+			else if (data[i]==delimiter && !quoted) return i;
+		}
+		return end;
+	}
+
+	/**
+	 * コマンドライン実行.
+	 * @param args 入力ファイル 出力ファイル 日付列番号 [-d 区切り文字] [-t スレッド数] [-h]
+	 * @throws IOException 入出力エラー
+	 */
+	public static void main(String[] args) throws IOException{
+		if (args.length < 3){
+			System.err.println("Usage: java holiday.HolidayCsv input output column [-d ,|tab] [-t threads] [-h]");
+			System.exit(1);
+		}
+		char delimiter = ',';
+		int threads = Runtime.getRuntime().availableProcessors();
+		boolean header = false;
+		for(int i=3;i < args.length;i++){
+			switch(args[i]){
+				case "-d":
+					String d = args[++i];
+					delimiter = "tab".equalsIgnoreCase(d) || "\\t".equals(d) ? '\t' : d.charAt(0);
+					break;
+				case "-t":
+					threads = Integer.parseInt(args[++i]);
+					break;
+				case "-h":
+					header = true;
+					break;
+				default:
+					System.err.println("unknown option : " + args[i]);
+					System.exit(1);
+			}
+		}
+		HolidayCsv csv = new HolidayCsv(Integer.parseInt(args[2]), delimiter, header, threads);
+		long t = System.nanoTime();
+		long rows;
+		try(FileChannel in = FileChannel.open(Paths.get(args[0]), StandardOpenOption.READ);
+			FileChannel out = FileChannel.open(Paths.get(args[1]), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)){
+			rows = csv.enrich(in, out);
+		}
+		double sec = (System.nanoTime() - t) / 1e9;
+		System.err.printf("%,d rows  %.3f s  %,.0f rows/s%n", rows, sec, rows / sec);
+	}
+}
@@ -0,0 +1,87 @@
+package holiday;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Month;
+
+/**
+ * 各言語の実装（Holiday.java、holiday.py、jholiday.js）の適合性確認用のゴールデンファイル.
+ * <pre>
+ * Holiday.java の規則で計算した全祝日を、日付順に１行１件で出力する。
+ *   # コメント行
+ *   yyyymmdd&lt;TAB&gt;祝日名
+ * 祝日名は Holiday.queryHoliday と同じ（振替休日は "振替休日（元の祝日名）"）。
+ * src/test/resources/holiday-golden.tsv がこのクラスで出力したファイルであり、
+ * 各言語のテスト（TestGolden.java、test_golden.py、golden_test.js）が１回の読み込みで照合する。
+ * holiday.py の load_golden、jholiday.js の JHoliday.loadGolden で、計算せずに参照する表として読み込める。
+ * 例）java holiday.HolidayGolden src/test/resources/holiday-golden.tsv
+ * </pre>
+ * @since 4.1
+ */
+public final class HolidayGolden{
+	private HolidayGolden(){}
+
+	/**
+	 * 指定年の範囲のゴールデンファイルを書き込む.
+	 * OutputStream はクローズしない。
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @param out 出力先（UTF-8）
+	 * @throws IOException 入出力エラー
+	 */
+	public static void write(int fromYear, int toYear, OutputStream out) throws IOException{
+		if (fromYear < Holiday.MIN_TABLE_YEAR || Holiday.MAX_TABLE_YEAR < toYear || toYear < fromYear){
+			throw new IllegalArgumentException("year range parameter Error");
+		}
+		Writer w = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		w.write("# Japanese holidays " + fromYear + "-" + toYear + " generated by holiday.HolidayGolden\n");
+		w.write("# yyyymmdd\tname\n");
+		StringBuilder sb = new StringBuilder(32);
+		for(int year=fromYear;year <= toYear;year++){
+			Holiday.YearTable table = Holiday.yearTable(year);
+			boolean leap = table.length()==366;
+			int month = 1;
+			int monthIndex = 0;
+			int monthLength = Month.JANUARY.length(leap);
+			for(int i=0;i < table.length();i++){
+				if (i - monthIndex >= monthLength){
+					monthIndex += monthLength;
+					month++;
+					monthLength = Month.of(month).length(leap);
+				}
+				String name = table.getName(i);
+				if (name==null) continue;
+				sb.setLength(0);
+				sb.append(year * 10000 + month * 100 + i - monthIndex + 1).append('\t').append(name).append('\n');
+				w.write(sb.toString());
+			}
+		}
+		w.flush();
+	}
+
+	/**
+	 * コマンドライン実行.
+	 * @param args 出力ファイル（"-" は標準出力） [開始年 終了年]
+	 * @throws IOException 入出力エラー
+	 */
+	public static void main(String[] args) throws IOException{
+		if (args.length != 1 && args.length != 3){
+			System.err.println("Usage: java holiday.HolidayGolden output.tsv|- [fromYear toYear]");
+			System.exit(1);
+		}
+		int from = args.length==3 ? Integer.parseInt(args[1]) : Holiday.MIN_TABLE_YEAR;
+		int to = args.length==3 ? Integer.parseInt(args[2]) : Holiday.MAX_TABLE_YEAR;
+		if ("-".equals(args[0])){
+			write(from, to, System.out);
+			return;
+		}
+		try(OutputStream out = Files.newOutputStream(Paths.get(args[0]))){
+			write(from, to, out);
+		}
+	}
+}
@@ -0,0 +1,273 @@
+package holiday;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * 祝日の iCalendar（RFC 5545 .ics）出力.
+ * <pre>
+ * 指定年の範囲の祝日を、Holiday.YearTable から１件ずつ VEVENT にして書き込む。
+ * 中間のリストは作らず、１行分のバッファと出力バッファを使い回すので、
+ * 年数に関係なく使用メモリは一定である。
+ * ・UID は 日付 + "@" + ドメイン で、同じ日の祝日は何度出力しても同じ UID になる。
+ * ・振替休日、国民の休日には理由を DESCRIPTION に出力する。
+ * ・行は CRLF で区切り、75 オクテットを超える行は UTF-8 の文字の途中で切らないように折り返す。
+ * 例）
+ *     try(OutputStream out = Files.newOutputStream(Paths.get("holiday.ics"))){
+ *        new HolidayIcs().write(2022, 2150, out);
+ *     }
+ * </pre>
+ * @since 4.1
+ */
+public final class HolidayIcs{
+	/** UID の既定のドメイン */
+	public static final String DEFAULT_DOMAIN = "holiday.yipuran";
+	/** 既定の PRODID */
+	public static final String DEFAULT_PRODID = "-//yipuran//holiday//JA";
+	private static final int MAX_OCTETS = 75;
+	private static final byte[] CRLF = { '\r', '\n' };
+	private static final byte[][] SUMMARIES = new byte[Holiday.YearTable.SUBSTITUTE + Holiday.YearTable.TYPE_MASK + 1][];
+	private static final byte[][] DESCRIPTIONS = new byte[SUMMARIES.length][];
+	private static final byte[][] CATEGORIES = new byte[SUMMARIES.length][];
+	static{
+		for(int code=1;code < SUMMARIES.length;code++){
+			String name = Holiday.YearTable.nameOf(code);
+			if (name==null) continue;
+			SUMMARIES[code] = escape(name);
+			if ((code & Holiday.YearTable.SUBSTITUTE) != 0){
+				DESCRIPTIONS[code] = escape(Holiday.YearTable.nameOf(code & Holiday.YearTable.TYPE_MASK) + "が日曜日にあたるため、翌日以降の最も近い平日が休日になります。");
+				CATEGORIES[code] = escape("振替休日");
+			}else if ((code & Holiday.YearTable.NATIONAL_HOLIDAY) != 0){
+				DESCRIPTIONS[code] = escape("前日と翌日が国民の祝日であるため、休日になります。");
+				CATEGORIES[code] = escape("国民の休日");
+			}else{
+				CATEGORIES[code] = escape("国民の祝日");
+			}
+		}
+	}
+
+	private final byte[] domain;
+	private final byte[] prodId;
+	private final byte[] dtstamp;
+	/** 折り返し前の１行 */
+	private byte[] line = new byte[256];
+	private int lineLength;
+	private ByteBuffer out;
+	private WritableByteChannel channel;
+
+	/**
+	 * デフォルトコンストラクタ.
+	 * ドメインは DEFAULT_DOMAIN、DTSTAMP は現在時刻
+	 */
+	public HolidayIcs(){
+		this(DEFAULT_DOMAIN, DEFAULT_PRODID, Instant.now());
+	}
+	/**
+	 * コンストラクタ.
+	 * @param domain UID のドメイン
+	 * @param prodId PRODID
+	 * @param dtstamp 全 VEVENT の DTSTAMP、出力を毎回同じにするには固定の時刻を指定する
+	 */
+	public HolidayIcs(String domain, String prodId, Instant dtstamp){
+		if (domain==null || domain.isEmpty() || prodId==null || dtstamp==null){
+			throw new IllegalArgumentException("parameter Error");
+		}
+		this.domain = domain.getBytes(StandardCharsets.UTF_8);
+		this.prodId = escape(prodId);
+		this.dtstamp = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+			.format(LocalDateTime.ofInstant(dtstamp.truncatedTo(ChronoUnit.SECONDS), ZoneOffset.UTC)).getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * 指定年の範囲の祝日を OutputStream に書き込む.
+	 * OutputStream はクローズしない。
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @param stream 出力先
+	 * @return 出力した VEVENT の数
+	 * @throws IOException 入出力エラー
+	 */
+	public int write(int fromYear, int toYear, OutputStream stream) throws IOException{
+		int n = write(fromYear, toYear, Channels.newChannel(stream));
+		stream.flush();
+		return n;
+	}
+	/**
+	 * 指定年の範囲の祝日を WritableByteChannel に書き込む.
+	 * チャンネルはクローズしない。同じインスタンスを複数スレッドで同時に使用してはならない。
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @param channel 出力先
+	 * @return 出力した VEVENT の数
+	 * @throws IOException 入出力エラー
+	 */
+	public int write(int fromYear, int toYear, WritableByteChannel channel) throws IOException{
+		if (fromYear < Holiday.MIN_TABLE_YEAR || Holiday.MAX_TABLE_YEAR < toYear || toYear < fromYear){
+			throw new IllegalArgumentException("year range parameter Error");
+		}
+		if (out==null) out = ByteBuffer.allocate(8192);
+		this.channel = channel;
+		int count = 0;
+		try{
+			line("BEGIN:VCALENDAR");
+			line("VERSION:2.0");
+			begin("PRODID:").append(prodId).end();
+			line("CALSCALE:GREGORIAN");
+			line("METHOD:PUBLISH");
+			line("X-WR-CALNAME:日本の祝日");
+			line("X-WR-TIMEZONE:Asia/Tokyo");
+			for(int year=fromYear;year <= toYear;year++){
+				Holiday.YearTable table = Holiday.yearTable(year);
+				boolean leap = table.length()==366;
+				int month = 1;
+				int monthIndex = 0;
+				int monthLength = Month.JANUARY.length(leap);
+				for(int i=0;i < table.length();i++){
+					if (i - monthIndex >= monthLength){
+						monthIndex += monthLength;
+						month++;
+						monthLength = Month.of(month).length(leap);
+					}
+					int code = table.getCode(i);
+					if (code==0) continue;
+					int day = i - monthIndex + 1;
+					// DTEND は翌日
+					int next = day < monthLength ? year * 10000 + month * 100 + day + 1
+						: month < 12 ? year * 10000 + (month + 1) * 100 + 1 : (year + 1) * 10000 + 101;
+					event(code, year * 10000 + month * 100 + day, next);
+					count++;
+				}
+			}
+			line("END:VCALENDAR");
+			flush();
+		}finally{
+			this.channel = null;
+		}
+		return count;
+	}
+
+	// VEVENT
+	private void event(int code, int ymd, int next) throws IOException{
+		line("BEGIN:VEVENT");
+		begin("UID:").number(ymd, 8).append('@').append(domain).end();
+		begin("DTSTAMP:").append(dtstamp).end();
+		begin("DTSTART;VALUE=DATE:").number(ymd, 8).end();
+		begin("DTEND;VALUE=DATE:").number(next, 8).end();
+		begin("SUMMARY:").append(SUMMARIES[code]).end();
+		if (DESCRIPTIONS[code] != null){
+			begin("DESCRIPTION:").append(DESCRIPTIONS[code]).end();
+		}
+		begin("CATEGORIES:").append(CATEGORIES[code]).end();
+		line("TRANSP:TRANSPARENT");
+		line("END:VEVENT");
+	}
+
+	private void line(String text) throws IOException{
+		begin(text).end();
+	}
+	private HolidayIcs begin(String text){
+		lineLength = 0;
+		for(int i=0;i < text.length();i++){
+			char c = text.charAt(i);
+			if (c >= 0x80){
+				// ASCII 以外を含むのはヘッダの行だけ
+				return append(text.substring(i).getBytes(StandardCharsets.UTF_8));
+			}
+			append((byte)c);
+		}
+		return this;
+	}
+	private HolidayIcs append(char c){
+		return append((byte)c);
+	}
+	private HolidayIcs append(byte b){
+		if (lineLength==line.length) line = Arrays.copyOf(line, lineLength * 2);
+		line[lineLength++] = b;
+		return this;
+	}
+	private HolidayIcs append(byte[] b){
+		for(byte c : b) append(c);
+		return this;
+	}
+	private HolidayIcs number(int value, int width){
+		for(int i=width - 1;i >= 0;i--){
+			if (lineLength + width > line.length) line = Arrays.copyOf(line, lineLength * 2 + width);
+			line[lineLength + i] = (byte)('0' + value % 10);
+			value /= 10;
+		}
+		lineLength += width;
+		return this;
+	}
+	// 行を 75 オクテットで折り返して出力バッファに書き込む
+	private void end() throws IOException{
+		int s = 0;
+		int limit = MAX_OCTETS;
+		while(lineLength - s > limit){
+			int e = s + limit;
+			// UTF-8 の後続バイト（10xxxxxx）の前では切らない
+			while((line[e] & 0xc0)==0x80) e--;
+			put(line, s, e - s);
+			put(CRLF, 0, 2);
+			put((byte)' ');
+			s = e;
+			// 継続行は先頭の空白を含めて 75 オクテット
+			limit = MAX_OCTETS - 1;
+		}
+		put(line, s, lineLength - s);
+		put(CRLF, 0, 2);
+	}
+	private void put(byte b) throws IOException{
+		if (!out.hasRemaining()) flush();
+		out.put(b);
+	}
+	private void put(byte[] b, int offset, int length) throws IOException{
+		if (out.remaining() < length) flush();
+		out.put(b, offset, length);
+	}
+	private void flush() throws IOException{
+		out.flip();
+		while(out.hasRemaining()) channel.write(out);
+		out.clear();
+	}
+
+	// TEXT 値のエスケープ
+	private static byte[] escape(String text){
+		StringBuilder sb = new StringBuilder(text.length() + 8);
+		for(int i=0;i < text.length();i++){
+			char c = text.charAt(i);
+			switch(c){
+				case '\\': case ';': case ',':
+					sb.append('\\').append(c);
+					break;
+				case '\n':
+					sb.append("\\n");
+					break;
+				default:
+					sb.append(c);
+			}
+		}
+		return sb.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * コマンドライン実行、標準出力に .ics を出力する.
+	 * @param args [開始年 終了年]
+	 * @throws IOException 入出力エラー
+	 */
+	public static void main(String[] args) throws IOException{
+		int from = args.length > 1 ? Integer.parseInt(args[0]) : Holiday.MIN_TABLE_YEAR;
+		int to = args.length > 1 ? Integer.parseInt(args[1]) : Holiday.MAX_TABLE_YEAR;
+		new HolidayIcs().write(from, to, System.out);
+	}
+}
@@ -0,0 +1,187 @@
+package holiday;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import holiday.Holiday.HolidayType;
+
+/**
+ * HolidayType、祝日の分類による祝日日付の一括検索.
+ * <pre>
+ * Holiday.MIN_TABLE_YEAR～Holiday.MAX_TABLE_YEAR の全ての年について、
+ * HolidayType ごとの祝日、振替休日、および国民の休日のエポック日（LocalDate#toEpochDay()）を
+ * 列（int配列）として最初の参照時に一度だけ作成し、以降の検索は列の参照のみで行う。
+ * 例）春分の日 2022～2100年
+ *     long[] days = HolidayIndex.dates(HolidayType.SPRING_EQUINOX_DAY, 2022, 2100);
+ *     ハッピーマンデー
+ *     long[] days = HolidayIndex.dates(EnumSet.of(Category.HAPPY_MONDAY), 2022, 2030);
+ * </pre>
+ * @since 4.1
+ */
+public final class HolidayIndex{
+	/** 祝日の分類 */
+	public enum Category{
+		/** 日付固定の祝日 */ FIXED_DATE,
+		/** ハッピーマンデー（第ｎ月曜日） */ HAPPY_MONDAY,
+		/** 春分の日、秋分の日 */ EQUINOX,
+		/** 振替休日 */ SUBSTITUTE,
+		/** 国民の休日 */ NATIONAL
+	}
+	private static final int YEARS = Holiday.MAX_TABLE_YEAR - Holiday.MIN_TABLE_YEAR + 1;
+	private static final int TYPES = HolidayType.values().length;
+	private static final int NONE = Integer.MIN_VALUE;
+
+	private HolidayIndex(){}
+
+	// 列は最初の参照時に作成する
+	private static final class Columns{
+		/** [type * YEARS + (year - MIN_TABLE_YEAR)] → 祝日のエポック日 */
+		static final int[] DATES = new int[TYPES * YEARS];
+		/** [type * YEARS + (year - MIN_TABLE_YEAR)] → 振替休日のエポック日、無ければ NONE */
+		static final int[] SUBSTITUTES = new int[TYPES * YEARS];
+		/** [year - MIN_TABLE_YEAR] → 国民の休日のエポック日、無ければ NONE */
+		static final int[] NATIONALS = new int[YEARS];
+		static{
+			Arrays.fill(SUBSTITUTES, NONE);
+			Arrays.fill(NATIONALS, NONE);
+			for(int y=0;y < YEARS;y++){
+				Holiday.YearTable table = Holiday.yearTable(Holiday.MIN_TABLE_YEAR + y);
+				int first = (int)table.getFirstEpochDay();
+				for(int i=0;i < table.length();i++){
+					int code = table.getCode(i);
+					if (code==0) continue;
+					if (code==Holiday.YearTable.NATIONAL_HOLIDAY){
+						NATIONALS[y] = first + i;
+						continue;
+					}
+					int t = (code & Holiday.YearTable.TYPE_MASK) - 1;
+					if ((code & Holiday.YearTable.SUBSTITUTE) != 0){
+						SUBSTITUTES[t * YEARS + y] = first + i;
+					}else{
+						DATES[t * YEARS + y] = first + i;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * HolidayType の分類.
+	 * @param type HolidayType
+	 * @return FIXED_DATE、HAPPY_MONDAY、EQUINOX のいずれか
+	 */
+	public static Category categoryOf(HolidayType type){
+		switch(type){
+			case COMING_OF_AGE_DAY:
+			case SEA_DAY:
+			case RESPECT_FOR_AGE_DAY:
+			case HEALTH_SPORTS_DAY:
+				return Category.HAPPY_MONDAY;
+			case SPRING_EQUINOX_DAY:
+			case AUTUMN_EQUINOX_DAY:
+				return Category.EQUINOX;
+			default:
+				return Category.FIXED_DATE;
+		}
+	}
+
+	/**
+	 * 指定 HolidayType の年範囲の祝日.
+	 * @param type HolidayType
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @return エポック日の配列（昇順）
+	 */
+	public static long[] dates(HolidayType type, int fromYear, int toYear){
+		checkRange(fromYear, toYear);
+		int base = type.ordinal() * YEARS - Holiday.MIN_TABLE_YEAR;
+		long[] rtns = new long[toYear - fromYear + 1];
+		for(int y=fromYear;y <= toYear;y++){
+			rtns[y - fromYear] = Columns.DATES[base + y];
+		}
+		return rtns;
+	}
+	/**
+	 * 指定 HolidayType の年範囲の振替休日.
+	 * @param type HolidayType
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @return エポック日の配列（昇順）
+	 */
+	public static long[] substituteDates(HolidayType type, int fromYear, int toYear){
+		return dates(EnumSet.of(type), EnumSet.of(Category.SUBSTITUTE), fromYear, toYear);
+	}
+	/**
+	 * 指定分類の年範囲の祝日.
+	 * @param categories 分類
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @return エポック日の配列（昇順）
+	 */
+	public static long[] dates(Set<Category> categories, int fromYear, int toYear){
+		return dates(EnumSet.allOf(HolidayType.class), categories, fromYear, toYear);
+	}
+	/**
+	 * 指定 HolidayType、分類の年範囲の祝日.
+	 * <pre>
+	 * FIXED_DATE、HAPPY_MONDAY、EQUINOX は types のうち該当する分類の祝日を、
+	 * SUBSTITUTE は types の祝日の振替休日を、NATIONAL は types に関係なく国民の休日を対象にする。
+	 * </pre>
+	 * @param types HolidayType
+	 * @param categories 分類
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @return エポック日の配列（昇順）
+	 */
+	public static long[] dates(Set<HolidayType> types, Set<Category> categories, int fromYear, int toYear){
+		checkRange(fromYear, toYear);
+		boolean substitute = categories.contains(Category.SUBSTITUTE);
+		boolean national = categories.contains(Category.NATIONAL);
+		// 祝日の列、振替休日の列の先頭位置
+		int[] dateBases = new int[TYPES];
+		int[] substituteBases = new int[TYPES];
+		int dn = 0, sn = 0;
+		for(HolidayType t : types){
+			if (categories.contains(categoryOf(t))) dateBases[dn++] = t.ordinal() * YEARS;
+			if (substitute) substituteBases[sn++] = t.ordinal() * YEARS;
+		}
+		long[] rtns = new long[(toYear - fromYear + 1) * (dn + sn + 1)];
+		int k = 0;
+		for(int y=fromYear - Holiday.MIN_TABLE_YEAR;y <= toYear - Holiday.MIN_TABLE_YEAR;y++){
+			int start = k;
+			for(int i=0;i < dn;i++){
+				rtns[k++] = Columns.DATES[dateBases[i] + y];
+			}
+			for(int i=0;i < sn;i++){
+				int d = Columns.SUBSTITUTES[substituteBases[i] + y];
+				if (d != NONE) rtns[k++] = d;
+			}
+			if (national && Columns.NATIONALS[y] != NONE){
+				rtns[k++] = Columns.NATIONALS[y];
+			}
+			// 年ごとの件数は高々３３件
+			Arrays.sort(rtns, start, k);
+		}
+		return k==rtns.length ? rtns : Arrays.copyOf(rtns, k);
+	}
+	/**
+	 * 指定 HolidayType、分類の年範囲の祝日の LongStream.
+	 * 対象は dates(Set, Set, int, int) と同じである。
+	 * @param types HolidayType
+	 * @param categories 分類
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @return エポック日の LongStream（昇順）
+	 */
+	public static LongStream stream(Set<HolidayType> types, Set<Category> categories, int fromYear, int toYear){
+		return Arrays.stream(dates(types, categories, fromYear, toYear));
+	}
+
+	private static void checkRange(int fromYear, int toYear){
+		if (fromYear < Holiday.MIN_TABLE_YEAR || Holiday.MAX_TABLE_YEAR < toYear || toYear < fromYear){
+			throw new IllegalArgumentException("year range parameter Error");
+		}
+	}
+}
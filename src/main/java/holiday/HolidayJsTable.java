@@ -0,0 +1,128 @@
+package holiday;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Month;
+
+/**
+ * jholiday.js の表参照モード用の祝日表（JSON）の出力.
+ * <pre>
+ * Holiday.YearTable から作成する、次の形式のコンパクトな JSON を出力する。
+ *   {
+ *     "from": 開始年, "to": 終了年,
+ *     "names": [ 祝日コード → 祝日名（使用しないコードは ""） ],
+ *     "masks": [ 年ごとに１月～１２月の祝日のビットマスク（日 d → ビット d-1）を１２個ずつ ],
+ *     "codes": [ [ 年ごとに、祝日の祝日コードを日付順に ] ]
+ *   }
+ * 指定日の祝日名は、その年の１月からその日の前日までのマスクのビット数を codes のインデックスとして求める。
+ * jholiday.js では JHoliday.loadTable(JSON を解析したオブジェクト) で読み込むと、
+ * 範囲内の年は既存の関数がこの表を参照して答えるので、ブラウザとサーバの結果が一致する。
+ * 例）java holiday.HolidayJsTable jholiday-table.json [開始年 終了年]
+ * </pre>
+ * @since 4.1
+ */
+public final class HolidayJsTable{
+	private HolidayJsTable(){}
+
+	/**
+	 * 指定年の範囲の祝日表を書き込む.
+	 * OutputStream はクローズしない。
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @param out 出力先（UTF-8）
+	 * @throws IOException 入出力エラー
+	 */
+	public static void write(int fromYear, int toYear, OutputStream out) throws IOException{
+		Writer w = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		write(fromYear, toYear, w);
+		w.flush();
+	}
+	/**
+	 * 指定年の範囲の祝日表を書き込む.
+	 * Writer はクローズしない。
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @param w 出力先
+	 * @throws IOException 入出力エラー
+	 */
+	public static void write(int fromYear, int toYear, Writer w) throws IOException{
+		if (fromYear < Holiday.MIN_TABLE_YEAR || Holiday.MAX_TABLE_YEAR < toYear || toYear < fromYear){
+			throw new IllegalArgumentException("year range parameter Error");
+		}
+		w.write("{\"from\":" + fromYear + ",\"to\":" + toYear + ",\n\"names\":[");
+		int codes = Holiday.YearTable.SUBSTITUTE + Holiday.YearTable.TYPE_MASK + 1;
+		for(int code=0;code < codes;code++){
+			String name = Holiday.YearTable.nameOf(code);
+			if (code > 0) w.write(',');
+			w.write('"');
+			if (name != null) w.write(name);
+			w.write('"');
+		}
+		w.write("],\n\"masks\":[");
+		for(int year=fromYear;year <= toYear;year++){
+			Holiday.YearTable table = Holiday.yearTable(year);
+			int[] masks = monthMasks(table);
+			w.write(year > fromYear ? ",\n" : "\n");
+			for(int m=0;m < 12;m++){
+				if (m > 0) w.write(',');
+				w.write(Integer.toString(masks[m]));
+			}
+		}
+		w.write("],\n\"codes\":[");
+		for(int year=fromYear;year <= toYear;year++){
+			Holiday.YearTable table = Holiday.yearTable(year);
+			w.write(year > fromYear ? ",\n[" : "\n[");
+			boolean first = true;
+			for(int i=0;i < table.length();i++){
+				int code = table.getCode(i);
+				if (code==0) continue;
+				if (!first) w.write(',');
+				w.write(Integer.toString(code));
+				first = false;
+			}
+			w.write(']');
+		}
+		w.write("]}\n");
+	}
+
+	// １月～１２月の祝日のビットマスク
+	static int[] monthMasks(Holiday.YearTable table){
+		int[] masks = new int[12];
+		boolean leap = table.length()==366;
+		int monthIndex = 0;
+		for(int m=0;m < 12;m++){
+			int length = Month.of(m + 1).length(leap);
+			for(int d=0;d < length;d++){
+				if (table.isHoliday(monthIndex + d)) masks[m] |= 1 << d;
+			}
+			monthIndex += length;
+		}
+		return masks;
+	}
+
+	/**
+	 * コマンドライン実行.
+	 * @param args 出力ファイル（"-" は標準出力） [開始年 終了年]
+	 * @throws IOException 入出力エラー
+	 */
+	public static void main(String[] args) throws IOException{
+		if (args.length != 1 && args.length != 3){
+			System.err.println("Usage: java holiday.HolidayJsTable output.json|- [fromYear toYear]");
+			System.exit(1);
+		}
+		int from = args.length==3 ? Integer.parseInt(args[1]) : Holiday.MIN_TABLE_YEAR;
+		int to = args.length==3 ? Integer.parseInt(args[2]) : Holiday.MAX_TABLE_YEAR;
+		if ("-".equals(args[0])){
+			write(from, to, System.out);
+			return;
+		}
+		try(OutputStream out = Files.newOutputStream(Paths.get(args[0]))){
+			write(from, to, out);
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package holiday;
+
+/**
+ * 祝日検索の監視.
+ * <pre>
+ * Holiday の検索の呼出し、年間テーブルのキャッシュミスと作成時間、キャッシュの破棄、
+ * 一括取得（リスト、配列を返すメソッド）の処理時間を通知するコールバック。
+ * サブクラスを register で登録すると通知を受け取る。登録が無ければ（既定）、
+ * 検索の都度の処理は登録数の確認のみである。
+ * 通知は呼出し元のスレッドで同期して行うので、サブクラスは処理をブロックしないこと。
+ * 特に called は検索の都度呼ばれるので、オブジェクトを生成しないこと。
+ * 例）JFR イベント：HolidayJfr（src/main/java11、Java 11 以降）
+ * </pre>
+ * @since 4.1
+ */
+public abstract class HolidayMonitor{
+	/** 監視する API、１件ずつの検索（IS_HOLIDAY～QUERY_HOLIDAY）は公開メソッドごとに１回通知する */
+	public enum Api{
+		/** Holiday.isHoliday(LocalDate) */ IS_HOLIDAY,
+		/** Holiday.isHoliday(Calendar) */ IS_HOLIDAY_CALENDAR,
+		/** Holiday.isHolidayEpochDay */ IS_HOLIDAY_EPOCH_DAY,
+		/** Holiday.isHoliday(long) */ IS_HOLIDAY_EPOCH_MILLI,
+		/** Holiday.isHoliday(long, ZoneId) */ IS_HOLIDAY_ZONE,
+		/** Holiday.isHoliday(Instant) */ IS_HOLIDAY_INSTANT,
+		/** Holiday.isHoliday(Date) */ IS_HOLIDAY_DATE,
+		/** Holiday.isHolidayYmd */ IS_HOLIDAY_YMD,
+		/** Holiday.isHoliday(CharSequence) */ IS_HOLIDAY_TEXT,
+		/** Holiday.isHoliday(byte[], int, int) */ IS_HOLIDAY_BYTES,
+		/** Holiday.queryHoliday */ QUERY_HOLIDAY,
+		/** Holiday.listHolidays（一括取得） */ LIST_HOLIDAYS,
+		/** Holiday.listHolidayDate（一括取得） */ LIST_HOLIDAY_DATE,
+		/** Holiday.listHolidayBundle（一括取得） */ LIST_HOLIDAY_BUNDLE,
+		/** Holiday.arrayDays（一括取得） */ ARRAY_DAYS
+	}
+	private static final HolidayMonitor[] NONE = {};
+	/** 登録された監視、変更の都度に配列を作り直す */
+	static volatile HolidayMonitor[] monitors = NONE;
+
+	/**
+	 * 監視の登録.
+	 * @param monitor HolidayMonitor
+	 */
+	public static synchronized void register(HolidayMonitor monitor){
+		if (monitor==null){
+			throw new IllegalArgumentException("monitor parameter Error");
+		}
+		HolidayMonitor[] ms = monitors;
+		for(HolidayMonitor m : ms){
+			if (m==monitor) return;
+		}
+		HolidayMonitor[] n = new HolidayMonitor[ms.length + 1];
+		System.arraycopy(ms, 0, n, 0, ms.length);
+		n[ms.length] = monitor;
+		monitors = n;
+	}
+	/**
+	 * 監視の登録解除.
+	 * @param monitor HolidayMonitor
+	 */
+	public static synchronized void unregister(HolidayMonitor monitor){
+		HolidayMonitor[] ms = monitors;
+		for(int i=0;i < ms.length;i++){
+			if (ms[i] != monitor) continue;
+			HolidayMonitor[] n = new HolidayMonitor[ms.length - 1];
+			System.arraycopy(ms, 0, n, 0, i);
+			System.arraycopy(ms, i + 1, n, i, ms.length - i - 1);
+			monitors = ms.length==1 ? NONE : n;
+			return;
+		}
+	}
+
+	/**
+	 * 検索 API の呼出し.
+	 * 一括取得の API は batchCompleted で通知する。
+	 * @param api Api
+	 */
+	protected void called(Api api){}
+	/**
+	 * 年間テーブルの参照（Holiday.yearTable の呼出し、キャッシュの範囲外の年の祝日の計算）.
+	 * 検索の都度呼ばれるので、オブジェクトを生成しないこと。
+	 * キャッシュミス（cacheMiss）は、この参照のうちキャッシュに無かったものである。
+	 * @param year 西暦４桁
+	 */
+	protected void tableRequested(int year){}
+	/**
+	 * 年間テーブルのキャッシュミス.
+	 * キャッシュの範囲（Holiday.MIN_TABLE_YEAR～Holiday.MAX_TABLE_YEAR）外の年の計算も含む。
+	 * @param year 西暦４桁
+	 */
+	protected void cacheMiss(int year){}
+	/**
+	 * 年間テーブルの作成.
+	 * @param year 西暦４桁
+	 * @param nanos 作成に要した時間（ナノ秒）
+	 */
+	protected void yearTableBuilt(int year, long nanos){}
+	/**
+	 * 年間テーブルのキャッシュの破棄（Holiday.clearTables）.
+	 * 次の参照時に祝日の規則から年間テーブルを作成し直す。
+	 */
+	protected void tablesCleared(){}
+	/**
+	 * 一括取得の API の完了.
+	 * @param api Api
+	 * @param year 西暦４桁
+	 * @param size 結果の件数
+	 * @param nanos 処理に要した時間（ナノ秒）
+	 */
+	protected void batchCompleted(Api api, int year, int size, long nanos){}
+
+	static void fireCalled(HolidayMonitor[] ms, Api api){
+		for(HolidayMonitor m : ms) m.called(api);
+	}
+	static void fireTableRequested(HolidayMonitor[] ms, int year){
+		for(HolidayMonitor m : ms) m.tableRequested(year);
+	}
+	static void fireCacheMiss(HolidayMonitor[] ms, int year){
+		for(HolidayMonitor m : ms) m.cacheMiss(year);
+	}
+	static void fireYearTableBuilt(HolidayMonitor[] ms, int year, long nanos){
+		for(HolidayMonitor m : ms) m.yearTableBuilt(year, nanos);
+	}
+	static void fireTablesCleared(HolidayMonitor[] ms){
+		for(HolidayMonitor m : ms) m.tablesCleared();
+	}
+	static void fireBatchCompleted(HolidayMonitor[] ms, Api api, int year, int size, long nanos){
+		for(HolidayMonitor m : ms) m.batchCompleted(api, year, size, nanos);
+	}
+}
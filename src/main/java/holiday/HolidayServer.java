@@ -0,0 +1,357 @@
+package holiday;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Month;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 祝日照会の組込み HTTP サーバ.
+ * <pre>
+ * com.sun.net.httpserver による JSON の照会サービス。
+ *   GET /holiday/yyyy-MM-dd                       指定日
+ *       {"date":"2026-01-01","weekday":"Thu","holiday":true,"name":"元旦","businessDay":false}
+ *   GET /holidays/yyyy                            指定年の祝日
+ *   GET /holidays/yyyy/MM                         指定年月の祝日
+ *       {"year":2026,"month":1,"holidays":[{"date":"2026-01-01","name":"元旦"},…]}
+ *   GET /holidays?from=yyyy-MM-dd&amp;to=yyyy-MM-dd  期間（両端を含む）の祝日
+ *       {"from":"2026-01-01","to":"2026-03-31","holidays":[…]}
+ * 対象は Holiday.MIN_TABLE_YEAR～Holiday.MAX_TABLE_YEAR の日付で、範囲外は 404 を返す。
+ * 年ごとに、年、月、日の応答を最初の要求時に一度だけ JSON のバイト列にして ETag（CRC32）と共に保持し、
+ * 以降の要求は保持したバイト列をそのまま返す。If-None-Match が一致すれば 304 を返す。
+ * 期間の応答は from、to の組合せが限られないので保持せず、要求ごとに、保持した年ごとの祝日の要素の
+ * バイト列を連結して組み立て、ETag（CRC32）もその都度計算する。
+ * 実行環境に仮想スレッドがあれば（Java 21 以降）仮想スレッドで要求を処理し、
+ * 無ければ CPU 数×2 のスレッドプールで処理する。
+ * 応答ヘッダと本文を別々に書き込むので、Nagle アルゴリズムによる遅延を避けるために
+ * システムプロパティ sun.net.httpserver.nodelay=true が必要である。JVM の全ての HttpServer に
+ * 影響するので main() でのみ設定する。アプリケーションに組み込む場合は、呼出し側で
+ * 最初の HttpServer の生成より前に設定する（-Dsun.net.httpserver.nodelay=true）。
+ * 起動：java holiday.HolidayServer [ポート番号（既定 8080）]
+ * </pre>
+ * @since 4.1
+ */
+public final class HolidayServer{
+	/** Cache-Control ヘッダの値 */
+	public static final String CACHE_CONTROL = "public, max-age=86400";
+	private static final String CONTENT_TYPE = "application/json; charset=UTF-8";
+	private static final byte[] HOLIDAYS = "\"holidays\":[".getBytes(StandardCharsets.UTF_8);
+
+	private static final Payload[] PAYLOADS = new Payload[Holiday.MAX_TABLE_YEAR - Holiday.MIN_TABLE_YEAR + 1];
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	/**
+	 * コンストラクタ.
+	 * @param port ポート番号、0 は空いているポート
+	 * @throws IOException ポートを使用できない場合
+	 */
+	public HolidayServer(int port) throws IOException{
+		server = HttpServer.create(new InetSocketAddress(port), 0);
+		executor = newExecutor();
+		server.setExecutor(executor);
+		server.createContext("/holiday/", this::date);
+		server.createContext("/holidays", this::holidays);
+	}
+	/**
+	 * 開始.
+	 */
+	public void start(){
+		server.start();
+	}
+	/**
+	 * 停止.
+	 * @param delay 処理中の要求の終了を待つ最大の秒数
+	 */
+	public void stop(int delay){
+		server.stop(delay);
+		executor.shutdown();
+	}
+	/**
+	 * @return 待ち受けているポート番号
+	 */
+	public int getPort(){
+		return server.getAddress().getPort();
+	}
+
+	// 仮想スレッドのエグゼキュータ、無ければスレッドプール
+	private static ExecutorService newExecutor(){
+		try{
+			Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService)m.invoke(null);
+		}catch(ReflectiveOperationException e){
+			return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+		}
+	}
+
+	// 応答のバイト列と ETag
+	private static final class Response{
+		final byte[] body;
+		final String etag;
+		Response(byte[] body, int length){
+			this.body = length==body.length ? body : Arrays.copyOf(body, length);
+			CRC32 crc = new CRC32();
+			crc.update(this.body, 0, this.body.length);
+			this.etag = String.format("\"%08x-%x\"", crc.getValue(), this.body.length);
+		}
+	}
+
+	// １年分の応答
+	private static final class Payload{
+		final int year;
+		final Response yearResponse;
+		final Response[] months = new Response[12];
+		final Response[] days;
+		/** 祝日ごとの {"date":…,"name":…} */
+		final byte[][] entries;
+		/** 祝日ごとの日のインデックス */
+		final int[] indexes;
+
+		Payload(int year){
+			this.year = year;
+			Holiday.YearTable table = Holiday.yearTable(year);
+			int count = table.count();
+			entries = new byte[count][];
+			indexes = new int[count];
+			days = new Response[table.length()];
+			int[] monthOfEntry = new int[count];
+			StringBuilder sb = new StringBuilder(128);
+			int month = 1;
+			int monthIndex = 0;
+			int k = 0;
+			for(int i=0;i < table.length();i++){
+				int monthLength = Month.of(month).length(table.length()==366);
+				if (i - monthIndex >= monthLength){
+					monthIndex += monthLength;
+					month++;
+				}
+				int day = i - monthIndex + 1;
+				String date = String.format("%04d-%02d-%02d", year, month, day);
+				int weekday = (int)Math.floorMod(table.getFirstEpochDay() + i + 3, 7L);
+				String name = table.getName(i);
+				sb.setLength(0);
+				sb.append("{\"date\":\"").append(date).append("\",\"weekday\":\"").append(Holiday.WEEKDAYS_SIMPLE[weekday])
+				.append("\",\"holiday\":").append(name != null).append(",\"name\":");
+				if (name==null) sb.append("null"); else sb.append('"').append(name).append('"');
+				sb.append(",\"businessDay\":").append(name==null && weekday < 5).append('}');
+				byte[] b = sb.toString().getBytes(StandardCharsets.UTF_8);
+				days[i] = new Response(b, b.length);
+				if (name != null){
+					entries[k] = ("{\"date\":\"" + date + "\",\"name\":\"" + name + "\"}").getBytes(StandardCharsets.UTF_8);
+					indexes[k] = i;
+					monthOfEntry[k] = month;
+					k++;
+				}
+			}
+			yearResponse = list("{\"year\":" + year + ",", 0, count);
+			for(int m=1, from=0;m <= 12;m++){
+				int to = from;
+				while(to < count && monthOfEntry[to]==m) to++;
+				months[m - 1] = list("{\"year\":" + year + ",\"month\":" + m + ",", from, to);
+				from = to;
+			}
+		}
+		private Response list(String head, int from, int to){
+			Buffer buf = new Buffer(256);
+			buf.put(head.getBytes(StandardCharsets.UTF_8)).put(HOLIDAYS);
+			appendEntries(buf, from, to, false);
+			buf.put((byte)']').put((byte)'}');
+			return new Response(buf.data, buf.length);
+		}
+		// 祝日の要素を追加する、戻り値は要素を追加したか
+		boolean appendEntries(Buffer buf, int from, int to, boolean comma){
+			for(int k=from;k < to;k++){
+				if (comma) buf.put((byte)',');
+				buf.put(entries[k]);
+				comma = true;
+			}
+			return comma;
+		}
+	}
+
+	// 伸長するバイト配列
+	private static final class Buffer{
+		byte[] data;
+		int length;
+		Buffer(int capacity){
+			data = new byte[capacity];
+		}
+		Buffer put(byte b){
+			if (length==data.length) data = Arrays.copyOf(data, length * 2);
+			data[length++] = b;
+			return this;
+		}
+		Buffer put(byte[] b){
+			if (length + b.length > data.length) data = Arrays.copyOf(data, Math.max(length + b.length, length * 2));
+			System.arraycopy(b, 0, data, length, b.length);
+			length += b.length;
+			return this;
+		}
+	}
+
+	// 指定年の応答、最初の参照時に作成する（競合して複数回作成しても結果は同じ）
+	private static Payload payload(int year){
+		Payload p = PAYLOADS[year - Holiday.MIN_TABLE_YEAR];
+		if (p==null){
+			p = new Payload(year);
+			PAYLOADS[year - Holiday.MIN_TABLE_YEAR] = p;
+		}
+		return p;
+	}
+
+	// yyyy-MM-dd → yyyymmdd、不正な場合、範囲外の場合は -1
+	private static int ymd(String text){
+		if (text==null) return -1;
+		byte[] b = text.getBytes(StandardCharsets.ISO_8859_1);
+		int ymd = Holiday.parseYmd(b, 0, b.length);
+		if (ymd < 0) return -1;
+		int y = ymd / 10000;
+		if (y < Holiday.MIN_TABLE_YEAR || Holiday.MAX_TABLE_YEAR < y) return -1;
+		try{
+			Holiday.dayIndex(ymd);
+		}catch(IllegalArgumentException e){
+			return -1;
+		}
+		return ymd;
+	}
+
+	// GET /holiday/yyyy-MM-dd
+	private void date(HttpExchange exchange) throws IOException{
+		if (!allowed(exchange)) return;
+		String path = exchange.getRequestURI().getPath();
+		int ymd = ymd(path.substring("/holiday/".length()));
+		if (ymd < 0){
+			error(exchange, 404, "date not found");
+			return;
+		}
+		send(exchange, payload(ymd / 10000).days[Holiday.dayIndex(ymd)]);
+	}
+
+	// GET /holidays/yyyy, /holidays/yyyy/MM, /holidays?from=&to=
+	private void holidays(HttpExchange exchange) throws IOException{
+		if (!allowed(exchange)) return;
+		String path = exchange.getRequestURI().getPath();
+		if ("/holidays".equals(path) || "/holidays/".equals(path)){
+			range(exchange);
+			return;
+		}
+		String[] parts = path.substring("/holidays/".length()).split("/");
+		int year = parts.length <= 2 ? number(parts[0], 4) : -1;
+		int month = parts.length==2 ? number(parts[1], 2) : 0;
+		if (year < Holiday.MIN_TABLE_YEAR || Holiday.MAX_TABLE_YEAR < year || month < 0 || 12 < month || (parts.length==2 && month==0)){
+			error(exchange, 404, "not found");
+			return;
+		}
+		Payload p = payload(year);
+		send(exchange, month==0 ? p.yearResponse : p.months[month - 1]);
+	}
+	private static int number(String s, int width){
+		if (s.length() != width) return -1;
+		int n = 0;
+		for(int i=0;i < width;i++){
+			char c = s.charAt(i);
+			if (c < '0' || '9' < c) return -1;
+			n = n * 10 + c - '0';
+		}
+		return n;
+	}
+
+	// 期間の応答を作成する（保持せず、要求ごとに年ごとの祝日の要素から組み立てる）
+	private void range(HttpExchange exchange) throws IOException{
+		String query = exchange.getRequestURI().getRawQuery();
+		String fromText = null;
+		String toText = null;
+		if (query != null){
+			for(String kv : query.split("&")){
+				if (kv.startsWith("from=")) fromText = kv.substring(5);
+				else if (kv.startsWith("to=")) toText = kv.substring(3);
+			}
+		}
+		int from = ymd(fromText);
+		int to = ymd(toText);
+		if (from < 0 || to < 0 || to < from){
+			error(exchange, 400, "from, to parameter Error");
+			return;
+		}
+		Buffer buf = new Buffer(1024);
+		buf.put(String.format("{\"from\":\"%s\",\"to\":\"%s\",", fromText, toText).getBytes(StandardCharsets.UTF_8)).put(HOLIDAYS);
+		boolean comma = false;
+		for(int y=from / 10000;y <= to / 10000;y++){
+			Payload p = payload(y);
+			int first = y==from / 10000 ? Holiday.dayIndex(from) : 0;
+			int last = y==to / 10000 ? Holiday.dayIndex(to) : Integer.MAX_VALUE;
+			int s = 0;
+			while(s < p.indexes.length && p.indexes[s] < first) s++;
+			int e = s;
+			while(e < p.indexes.length && p.indexes[e] <= last) e++;
+			comma = p.appendEntries(buf, s, e, comma);
+		}
+		buf.put((byte)']').put((byte)'}');
+		send(exchange, new Response(buf.data, buf.length));
+	}
+
+	private static boolean allowed(HttpExchange exchange) throws IOException{
+		String method = exchange.getRequestMethod();
+		if ("GET".equals(method) || "HEAD".equals(method)) return true;
+		exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+		error(exchange, 405, "method not allowed");
+		return false;
+	}
+	private static void send(HttpExchange exchange, Response response) throws IOException{
+		Headers headers = exchange.getResponseHeaders();
+		headers.set("ETag", response.etag);
+		headers.set("Cache-Control", CACHE_CONTROL);
+		String match = exchange.getRequestHeaders().getFirst("If-None-Match");
+		if (match != null && (match.contains(response.etag) || "*".equals(match.trim()))){
+			exchange.sendResponseHeaders(304, -1);
+			exchange.close();
+			return;
+		}
+		headers.set("Content-Type", CONTENT_TYPE);
+		boolean head = "HEAD".equals(exchange.getRequestMethod());
+		exchange.sendResponseHeaders(200, head ? -1 : response.body.length);
+		if (!head){
+			try(OutputStream out = exchange.getResponseBody()){
+				out.write(response.body);
+			}
+		}
+		exchange.close();
+	}
+	private static void error(HttpExchange exchange, int status, String message) throws IOException{
+		byte[] body = String.format(Locale.ROOT, "{\"status\":%d,\"error\":\"%s\"}", status, message).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+		exchange.sendResponseHeaders(status, body.length);
+		try(OutputStream out = exchange.getResponseBody()){
+			out.write(body);
+		}
+		exchange.close();
+	}
+
+	/**
+	 * サーバの起動.
+	 * @param args [ポート番号]
+	 * @throws IOException ポートを使用できない場合
+	 */
+	public static void main(String[] args) throws IOException{
+		// 応答ヘッダと本文を別々に書き込むので、Nagle アルゴリズムによる遅延を避ける
+		if (System.getProperty("sun.net.httpserver.nodelay")==null){
+			System.setProperty("sun.net.httpserver.nodelay", "true");
+		}
+		HolidayServer server = new HolidayServer(args.length > 0 ? Integer.parseInt(args[0]) : 8080);
+		server.start();
+		System.err.println("HolidayServer started : http://localhost:" + server.getPort() + "/holidays/" + Year.now().getValue());
+	}
+}
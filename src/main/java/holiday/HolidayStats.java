@@ -0,0 +1,202 @@
+package holiday;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 祝日検索の統計の JMX MBean.
+ * <pre>
+ * HolidayMonitor として登録し、API ごとの呼出し回数、年間テーブルの参照とキャッシュミス、
+ * キャッシュ済の年、メモリ使用量の見積り、年間テーブルの作成時間を
+ * プラットフォーム MBeanServer の holiday:type=HolidayStats で公開する。
+ * 操作として、年の範囲の事前作成（prewarm）、キャッシュの破棄（clearCaches）を提供する。
+ * 回数は LongAdder で数えるので、多数のスレッドからの検索でも競合しない。
+ * 既定では登録されず、register() で登録する。
+ * 例）HolidayStats.register();
+ *     jconsole → MBeans → holiday → HolidayStats
+ * </pre>
+ * @since 4.1
+ */
+public final class HolidayStats extends HolidayMonitor implements HolidayStatsMXBean{
+	/** MBean の ObjectName */
+	public static final String OBJECT_NAME = "holiday:type=HolidayStats";
+	private static HolidayStats registered;
+
+	private final LongAdder[] calls = new LongAdder[Api.values().length];
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder builds = new LongAdder();
+	private final LongAdder buildNanos = new LongAdder();
+	private final LongAdder clears = new LongAdder();
+	private volatile int lastBuildYear;
+	private volatile long lastBuildNanos;
+
+	private HolidayStats(){
+		for(int i=0;i < calls.length;i++) calls[i] = new LongAdder();
+	}
+
+	/**
+	 * MBean を登録し、統計の収集を開始する.
+	 * 登録済であれば、登録済のインスタンスを返す。
+	 * @return HolidayStats
+	 */
+	public static synchronized HolidayStats register(){
+		if (registered != null) return registered;
+		HolidayStats stats = new HolidayStats();
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try{
+			server.registerMBean(stats, new ObjectName(OBJECT_NAME));
+		}catch(InstanceAlreadyExistsException e){
+			throw new IllegalStateException(OBJECT_NAME + " already registered", e);
+		}catch(JMException e){
+			throw new IllegalStateException(e);
+		}
+		HolidayMonitor.register(stats);
+		registered = stats;
+		return stats;
+	}
+	/**
+	 * MBean の登録を解除し、統計の収集を終了する.
+	 */
+	public static synchronized void unregister(){
+		if (registered==null) return;
+		HolidayMonitor.unregister(registered);
+		try{
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+		}catch(InstanceNotFoundException e){
+		}catch(JMException e){
+			throw new IllegalStateException(e);
+		}
+		registered = null;
+	}
+
+	@Override
+	protected void called(Api api){
+		calls[api.ordinal()].increment();
+	}
+	@Override
+	protected void tableRequested(int year){
+		requests.increment();
+	}
+	@Override
+	protected void cacheMiss(int year){
+		misses.increment();
+	}
+	@Override
+	protected void yearTableBuilt(int year, long nanos){
+		builds.increment();
+		buildNanos.add(nanos);
+		lastBuildYear = year;
+		lastBuildNanos = nanos;
+	}
+	@Override
+	protected void tablesCleared(){
+		clears.increment();
+	}
+	@Override
+	protected void batchCompleted(Api api, int year, int size, long nanos){
+		calls[api.ordinal()].increment();
+	}
+
+	@Override
+	public Map<String, Long> getCallCounts(){
+		Map<String, Long> map = new LinkedHashMap<>();
+		Api[] apis = Api.values();
+		for(int i=0;i < apis.length;i++){
+			map.put(apis[i].name(), calls[i].sum());
+		}
+		return map;
+	}
+	@Override
+	public long getTotalCalls(){
+		long n = 0;
+		for(LongAdder a : calls) n += a.sum();
+		return n;
+	}
+	@Override
+	public long getTableRequests(){
+		return requests.sum();
+	}
+	@Override
+	public long getCacheMisses(){
+		return misses.sum();
+	}
+	@Override
+	public double getCacheHitRatio(){
+		// キャッシュミスは年間テーブルの参照のうちキャッシュに無かったもの（検索 API 以外からの参照を含む）
+		long n = requests.sum();
+		if (n==0) return 1.0;
+		return 1.0 - misses.sum() / (double)n;
+	}
+	@Override
+	public int[] getResidentYears(){
+		return Holiday.residentTables().stream().mapToInt(Holiday.YearTable::getYear).toArray();
+	}
+	@Override
+	public int getResidentYearCount(){
+		return Holiday.residentTables().size();
+	}
+	@Override
+	public long getMemoryFootprintEstimate(){
+		long n = 0;
+		for(Holiday.YearTable t : Holiday.residentTables()) n += t.estimatedSize();
+		return n + MonthGrid.cacheSizeEstimate();
+	}
+	@Override
+	public long getTableBuilds(){
+		return builds.sum();
+	}
+	@Override
+	public int getLastBuildYear(){
+		return lastBuildYear;
+	}
+	@Override
+	public double getLastBuildTimeMillis(){
+		return lastBuildNanos / 1_000_000.0;
+	}
+	@Override
+	public double getTotalBuildTimeMillis(){
+		return buildNanos.sum() / 1_000_000.0;
+	}
+	@Override
+	public long getCacheClears(){
+		return clears.sum();
+	}
+
+	@Override
+	public int prewarm(int fromYear, int toYear){
+		if (fromYear < Holiday.MIN_TABLE_YEAR || Holiday.MAX_TABLE_YEAR < toYear || toYear < fromYear){
+			throw new IllegalArgumentException("year range parameter Error");
+		}
+		List<Holiday.YearTable> before = Holiday.residentTables();
+		for(int year=fromYear;year <= toYear;year++){
+			Holiday.yearTable(year);
+		}
+		return Holiday.residentTables().size() - before.size();
+	}
+	@Override
+	public void clearCaches(){
+		Holiday.clearTables();
+		MonthGrid.clearCache();
+	}
+	@Override
+	public void resetCounters(){
+		for(LongAdder a : calls) a.reset();
+		requests.reset();
+		misses.reset();
+		builds.reset();
+		buildNanos.reset();
+		clears.reset();
+		lastBuildYear = 0;
+		lastBuildNanos = 0;
+	}
+}
@@ -0,0 +1,96 @@
+package holiday;
+
+import java.util.Map;
+
+/**
+ * 祝日検索の統計の MXBean インタフェース.
+ * <pre>
+ * HolidayStats.register() でプラットフォーム MBeanServer に
+ * HolidayStats.OBJECT_NAME（holiday:type=HolidayStats）として登録する。
+ * </pre>
+ * @since 4.1
+ */
+public interface HolidayStatsMXBean{
+	/**
+	 * API ごとの呼出し回数.
+	 * @return HolidayMonitor.Api の名前 → 呼出し回数
+	 */
+	Map<String, Long> getCallCounts();
+	/**
+	 * 全ての API の呼出し回数.
+	 * @return 呼出し回数の合計
+	 */
+	long getTotalCalls();
+	/**
+	 * 年間テーブルの参照の回数.
+	 * @return Holiday.yearTable の呼出し（BusinessCalendar、MonthGrid などからの参照を含む）と、
+	 *         キャッシュの範囲外の年の祝日の計算の回数
+	 */
+	long getTableRequests();
+	/**
+	 * 年間テーブルのキャッシュミスの回数.
+	 * @return キャッシュミスの回数（キャッシュの範囲外の年の計算を含む）
+	 */
+	long getCacheMisses();
+	/**
+	 * 年間テーブルのキャッシュのヒット率.
+	 * @return 1 - キャッシュミスの回数 / 年間テーブルの参照の回数（0.0～1.0）、参照が無ければ 1.0
+	 */
+	double getCacheHitRatio();
+	/**
+	 * キャッシュ済の年.
+	 * @return 年の配列（年の順）
+	 */
+	int[] getResidentYears();
+	/**
+	 * キャッシュ済の年の数.
+	 * @return 年の数
+	 */
+	int getResidentYearCount();
+	/**
+	 * キャッシュのヒープ上の大きさの見積り.
+	 * @return 年間テーブルと月表示グリッドのバイト数
+	 */
+	long getMemoryFootprintEstimate();
+	/**
+	 * 年間テーブルの作成回数.
+	 * @return 作成回数
+	 */
+	long getTableBuilds();
+	/**
+	 * 最後に作成した年間テーブルの年.
+	 * @return 西暦４桁、作成していなければ 0
+	 */
+	int getLastBuildYear();
+	/**
+	 * 最後の年間テーブルの作成時間.
+	 * @return ミリ秒
+	 */
+	double getLastBuildTimeMillis();
+	/**
+	 * 年間テーブルの作成時間の合計.
+	 * @return ミリ秒
+	 */
+	double getTotalBuildTimeMillis();
+	/**
+	 * キャッシュの破棄（Holiday.clearTables）の回数.
+	 * @return 回数
+	 */
+	long getCacheClears();
+
+	/**
+	 * 指定年の範囲の年間テーブルを作成してキャッシュする.
+	 * @param fromYear 開始年
+	 * @param toYear 終了年（含む）
+	 * @return 新たに作成した年の数
+	 */
+	int prewarm(int fromYear, int toYear);
+	/**
+	 * 年間テーブル、月表示グリッドのキャッシュを破棄する.
+	 */
+	void clearCaches();
+	/**
+	 * 呼出し回数、年間テーブルの参照、キャッシュミス、作成時間の統計を 0 にする.
+	 */
+	void resetCounters();
+}
@@ -0,0 +1,165 @@
+package holiday;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalQuery;
+import java.time.temporal.TemporalUnit;
+
+/**
+ * java.time 用の営業日の TemporalUnit、TemporalAdjuster、TemporalQuery.
+ * <pre>
+ * 営業日は BusinessCalendar（土曜日、日曜日、祝日以外）に従う。
+ * 例）date.plus(5, JapanBusinessDays.UNIT)
+ *     date.with(JapanBusinessDays.nextBusinessDay())
+ *     start.until(end, JapanBusinessDays.UNIT)
+ *     date.query(JapanBusinessDays.holidayQuery())
+ * 全てシングルトンで、営業日の一覧、累積営業日数、営業日調整の表の参照のみで求めるので、
+ * 結果の LocalDate 以外のオブジェクトは生成しない。
+ * 営業日の TemporalUnit、TemporalAdjuster、businessDayQuery の対象は
+ * BusinessCalendar.FIRST_EPOCH_DAY～BusinessCalendar.LAST_EPOCH_DAY の日付であり、
+ * 範囲外の日付、範囲外になる結果は java.time の規約に従い DateTimeException を投げる。
+ * </pre>
+ * @since 4.1
+ */
+public final class JapanBusinessDays{
+	/** 営業日の TemporalUnit */
+	public static final TemporalUnit UNIT = new BusinessDayUnit();
+
+	private static final TemporalAdjuster NEXT = t->t.with(ChronoField.EPOCH_DAY
+			, RollConvention.FOLLOWING.adjust(checkRange(t.getLong(ChronoField.EPOCH_DAY) + 1, BusinessCalendar.LAST_EPOCH_DAY)));
+	private static final TemporalAdjuster NEXT_OR_SAME = t->t.with(ChronoField.EPOCH_DAY
+			, RollConvention.FOLLOWING.adjust(checkRange(t.getLong(ChronoField.EPOCH_DAY), BusinessCalendar.LAST_EPOCH_DAY)));
+	private static final TemporalAdjuster PREVIOUS = t->t.with(ChronoField.EPOCH_DAY
+			, RollConvention.PRECEDING.adjust(checkRange(t.getLong(ChronoField.EPOCH_DAY) - 1, BusinessCalendar.LAST_EPOCH_DAY)));
+	private static final TemporalAdjuster PREVIOUS_OR_SAME = t->t.with(ChronoField.EPOCH_DAY
+			, RollConvention.PRECEDING.adjust(checkRange(t.getLong(ChronoField.EPOCH_DAY), BusinessCalendar.LAST_EPOCH_DAY)));
+	private static final TemporalQuery<String> HOLIDAY = t->{
+		if (!t.isSupported(ChronoField.EPOCH_DAY)) return null;
+		// 和暦、仏暦などの YEAR、DAY_OF_YEAR は西暦と異なるので、LocalDate 以外はエポック日から求める
+		LocalDate d = t instanceof LocalDate ? (LocalDate)t : LocalDate.ofEpochDay(t.getLong(ChronoField.EPOCH_DAY));
+		return Holiday.yearTable(d.getYear()).getName(d.getDayOfYear() - 1);
+	};
+	private static final TemporalQuery<Boolean> BUSINESS_DAY = t->!t.isSupported(ChronoField.EPOCH_DAY) ? null
+			: BusinessCalendar.isBusinessDay(checkRange(t.getLong(ChronoField.EPOCH_DAY), BusinessCalendar.LAST_EPOCH_DAY));
+
+	private JapanBusinessDays(){}
+
+	// FIRST_EPOCH_DAY～last の範囲外は DateTimeException
+	private static long checkRange(long epochDay, long last){
+		if (epochDay < BusinessCalendar.FIRST_EPOCH_DAY || last < epochDay){
+			throw new DateTimeException("business day out of range Error: epochDay=" + epochDay);
+		}
+		return epochDay;
+	}
+
+	/**
+	 * 翌営業日の TemporalAdjuster.
+	 * 調整する日付の翌日が BusinessCalendar.LAST_EPOCH_DAY を超える場合は DateTimeException を投げる。
+	 * @return TemporalAdjuster
+	 */
+	public static TemporalAdjuster nextBusinessDay(){
+		return NEXT;
+	}
+	/**
+	 * 当日（営業日の場合）または翌営業日の TemporalAdjuster.
+	 * 調整する日付が範囲外の場合は DateTimeException を投げる。
+	 * @return TemporalAdjuster
+	 */
+	public static TemporalAdjuster nextOrSameBusinessDay(){
+		return NEXT_OR_SAME;
+	}
+	/**
+	 * 前営業日の TemporalAdjuster.
+	 * 調整する日付の前日が BusinessCalendar.FIRST_EPOCH_DAY より前の場合は DateTimeException を投げる。
+	 * @return TemporalAdjuster
+	 */
+	public static TemporalAdjuster previousBusinessDay(){
+		return PREVIOUS;
+	}
+	/**
+	 * 当日（営業日の場合）または前営業日の TemporalAdjuster.
+	 * 調整する日付が範囲外の場合は DateTimeException を投げる。
+	 * @return TemporalAdjuster
+	 */
+	public static TemporalAdjuster previousOrSameBusinessDay(){
+		return PREVIOUS_OR_SAME;
+	}
+	/**
+	 * 祝日名の TemporalQuery.
+	 * 祝日の判定は年の範囲に制限が無い（Holiday.yearTable）。
+	 * @return 祝日名を返す TemporalQuery、祝日でない、または日付を持たない（LocalTime など）場合は null を返す
+	 */
+	public static TemporalQuery<String> holidayQuery(){
+		return HOLIDAY;
+	}
+	/**
+	 * 営業日判定の TemporalQuery.
+	 * 日付が範囲外の場合は DateTimeException を投げる。
+	 * @return 営業日なら Boolean.TRUE を返す TemporalQuery、日付を持たない（LocalTime など）場合は null を返す
+	 */
+	public static TemporalQuery<Boolean> businessDayQuery(){
+		return BUSINESS_DAY;
+	}
+
+	// 営業日の単位
+	private static final class BusinessDayUnit implements TemporalUnit{
+		/** 週５営業日として見積もった１営業日の長さ */
+		private static final Duration DURATION = Duration.ofMinutes(24 * 60 * 7 / 5);
+		@Override
+		public Duration getDuration(){
+			return DURATION;
+		}
+		@Override
+		public boolean isDurationEstimated(){
+			return true;
+		}
+		@Override
+		public boolean isDateBased(){
+			return true;
+		}
+		@Override
+		public boolean isTimeBased(){
+			return false;
+		}
+		@Override
+		public boolean isSupportedBy(Temporal temporal){
+			return temporal.isSupported(ChronoField.EPOCH_DAY);
+		}
+		/**
+		 * amount 営業日後（負の値は前）の日付.
+		 * 営業日でない日からの 1 営業日後は翌営業日、-1 営業日は前営業日になる。
+		 * 日付、結果が範囲外の場合は DateTimeException を投げる。
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public <R extends Temporal> R addTo(R temporal, long amount){
+			if (amount==0) return temporal;
+			long epochDay = checkRange(temporal.getLong(ChronoField.EPOCH_DAY), BusinessCalendar.LAST_EPOCH_DAY);
+			long k = amount > 0
+				? BusinessCalendar.businessDaysBetween(BusinessCalendar.FIRST_EPOCH_DAY, epochDay + 1) + amount - 1
+				: BusinessCalendar.businessDaysBetween(BusinessCalendar.FIRST_EPOCH_DAY, epochDay) + amount;
+			long day = BusinessCalendar.businessDayAt(k);
+			if (day < 0){
+				throw new DateTimeException("business days out of range Error: amount=" + amount);
+			}
+			return (R)temporal.with(ChronoField.EPOCH_DAY, day);
+		}
+		/**
+		 * 開始日（含む）から終了日（含まない）までの営業日数.
+		 * 日付は LAST_EPOCH_DAY の翌日まで指定でき、範囲外の場合は DateTimeException を投げる。
+		 */
+		@Override
+		public long between(Temporal temporal1Inclusive, Temporal temporal2Exclusive){
+			return BusinessCalendar.businessDaysBetween(checkRange(temporal1Inclusive.getLong(ChronoField.EPOCH_DAY), BusinessCalendar.LAST_EPOCH_DAY + 1)
+					, checkRange(temporal2Exclusive.getLong(ChronoField.EPOCH_DAY), BusinessCalendar.LAST_EPOCH_DAY + 1));
+		}
+		@Override
+		public String toString(){
+			return "BusinessDays";
+		}
+	}
+}
@@ -0,0 +1,311 @@
+package holiday;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * カレンダー画面用の月表示グリッド（６週×７日）.
+ * <pre>
+ * 月の１日を含む週の週初めの曜日から４２日分のセルを、Holiday.YearTable から一度に作成する。
+ * セルは int のコードで、次のビットを持つ。
+ *   DAY_MASK         日（1～31）
+ *   OTHER_MONTH      前月、翌月の日
+ *   HOLIDAY          祝日、振替休日、国民の休日
+ *   SUBSTITUTE       振替休日
+ *   NATIONAL_HOLIDAY 国民の休日
+ *   SATURDAY         土曜日
+ *   SUNDAY           日曜日
+ *   TODAY            今日（getCell(index, today) の場合のみ）
+ *   NAME_SHIFT～     祝日名テーブル getNames() のインデックス（祝日でなければ 0）
+ * 不変オブジェクトであり、Holiday.MIN_TABLE_YEAR～Holiday.MAX_TABLE_YEAR の
+ * （年、月、週初めの曜日）ごとに１つだけ作成してキャッシュし、スレッド間で共有する。
+ * JSON は最初の参照時に一度だけバイト列にして保持する。
+ * 例）MonthGrid grid = MonthGrid.of(2026, 9, DayOfWeek.SUNDAY);
+ *     for(int i=0;i &lt; MonthGrid.CELLS;i++){
+ *         int cell = grid.getCell(i, today);
+ *         if ((cell &amp; MonthGrid.HOLIDAY) != 0) … grid.getName(cell) …
+ *     }
+ * </pre>
+ * @since 4.1
+ */
+public final class MonthGrid{
+	/** セルの数（６週×７日） */
+	public static final int CELLS = 42;
+	/** セル：日（1～31）を取り出すマスク */
+	public static final int DAY_MASK = 0x1f;
+	/** セル：前月、翌月の日 */
+	public static final int OTHER_MONTH = 0x20;
+	/** セル：祝日、振替休日、国民の休日 */
+	public static final int HOLIDAY = 0x40;
+	/** セル：振替休日 */
+	public static final int SUBSTITUTE = 0x80;
+	/** セル：国民の休日 */
+	public static final int NATIONAL_HOLIDAY = 0x100;
+	/** セル：土曜日 */
+	public static final int SATURDAY = 0x200;
+	/** セル：日曜日 */
+	public static final int SUNDAY = 0x400;
+	/** セル：今日 */
+	public static final int TODAY = 0x800;
+	/** セル：祝日名テーブルのインデックスの位置 */
+	public static final int NAME_SHIFT = 16;
+
+	/** [year - MIN_TABLE_YEAR][(month - 1) * 7 + weekStart.ordinal()] → MonthGrid、年の配列は最初の参照時に作成する */
+	private static final MonthGrid[][] GRIDS = new MonthGrid[Holiday.MAX_TABLE_YEAR - Holiday.MIN_TABLE_YEAR + 1][];
+
+	private final int year;
+	private final int month;
+	private final DayOfWeek weekStart;
+	private final long firstEpochDay;
+	private final int[] cells = new int[CELLS];
+	private final String[] names;
+	private volatile byte[] json;
+
+	private MonthGrid(int year, int month, DayOfWeek weekStart){
+		this.year = year;
+		this.month = month;
+		this.weekStart = weekStart;
+		LocalDate first = LocalDate.of(year, month, 1);
+		this.firstEpochDay = first.toEpochDay() - Math.floorMod(first.getDayOfWeek().getValue() - weekStart.getValue(), 7);
+		List<String> list = new ArrayList<>();
+		list.add(null);
+		Holiday.YearTable table = null;
+		int currentMonth = 0;
+		int day = 0;
+		int monthLength = 0;
+		LocalDate date = LocalDate.ofEpochDay(firstEpochDay);
+		for(int i=0;i < CELLS;i++){
+			long epochDay = firstEpochDay + i;
+			if (i==0 || day > monthLength){
+				// 最初のセル、または月が変わった
+				if (i > 0) date = LocalDate.ofEpochDay(epochDay);
+				currentMonth = date.getMonthValue();
+				day = date.getDayOfMonth();
+				monthLength = date.lengthOfMonth();
+				if (table==null || table.getYear() != date.getYear()) table = Holiday.yearTable(date.getYear());
+			}
+			int cell = day;
+			if (currentMonth != month) cell |= OTHER_MONTH;
+			int weekday = (int)Math.floorMod(epochDay + 3, 7L);
+			if (weekday==5) cell |= SATURDAY;
+			if (weekday==6) cell |= SUNDAY;
+			int code = table.getCode((int)(epochDay - table.getFirstEpochDay()));
+			if (code != 0){
+				cell |= HOLIDAY;
+				if ((code & Holiday.YearTable.SUBSTITUTE) != 0) cell |= SUBSTITUTE;
+				if (code==Holiday.YearTable.NATIONAL_HOLIDAY) cell |= NATIONAL_HOLIDAY;
+				String name = Holiday.YearTable.nameOf(code);
+				int n = list.indexOf(name);
+				if (n < 0){
+					n = list.size();
+					list.add(name);
+				}
+				cell |= n << NAME_SHIFT;
+			}
+			cells[i] = cell;
+			day++;
+		}
+		this.names = list.toArray(new String[list.size()]);
+	}
+
+	/**
+	 * 指定年、月、週初めの曜日の月表示グリッドを取得.
+	 * Holiday.MIN_TABLE_YEAR～Holiday.MAX_TABLE_YEAR はキャッシュされ、２回目以降は同じインスタンスを返す。
+	 * 範囲外の年は、呼出しの都度に作成する。
+	 * @param year 西暦４桁
+	 * @param month 月
+	 * @param weekStart 週初めの曜日（左端の列）
+	 * @return MonthGrid
+	 */
+	public static MonthGrid of(int year, int month, DayOfWeek weekStart){
+		if (month < 1 || 12 < month){
+			throw new IllegalArgumentException("month parameter Error");
+		}
+		if (weekStart==null){
+			throw new IllegalArgumentException("weekStart parameter Error");
+		}
+		if (year < Holiday.MIN_TABLE_YEAR || Holiday.MAX_TABLE_YEAR < year){
+			return new MonthGrid(year, month, weekStart);
+		}
+		// MonthGrid は不変なので、競合して二重に生成されても問題ない
+		MonthGrid[] grids = GRIDS[year - Holiday.MIN_TABLE_YEAR];
+		if (grids==null){
+			grids = new MonthGrid[12 * 7];
+			GRIDS[year - Holiday.MIN_TABLE_YEAR] = grids;
+		}
+		int i = (month - 1) * 7 + weekStart.ordinal();
+		MonthGrid grid = grids[i];
+		if (grid==null){
+			grid = new MonthGrid(year, month, weekStart);
+			grids[i] = grid;
+		}
+		return grid;
+	}
+	/**
+	 * 指定年、月の日曜日始まりの月表示グリッドを取得.
+	 * @param year 西暦４桁
+	 * @param month 月
+	 * @return MonthGrid
+	 */
+	public static MonthGrid of(int year, int month){
+		return of(year, month, DayOfWeek.SUNDAY);
+	}
+	/**
+	 * キャッシュした月表示グリッドを破棄する.
+	 */
+	public static void clearCache(){
+		Arrays.fill(GRIDS, null);
+	}
+	/**
+	 * キャッシュした月表示グリッドのヒープ上の大きさの見積り.
+	 * @return バイト数
+	 */
+	static long cacheSizeEstimate(){
+		long n = 0;
+		for(MonthGrid[] grids : GRIDS){
+			if (grids==null) continue;
+			// MonthGrid[84] 352
+			n += 352;
+			for(MonthGrid g : grids){
+				if (g==null) continue;
+				// MonthGrid 40 + int[42] 184 + String[] + 作成済の JSON（祝日名は YearTable と共有）
+				byte[] b = g.json;
+				n += 40 + 184 + ((16 + 4 * g.names.length + 7) & ~7) + (b==null ? 0 : (16 + b.length + 7) & ~7);
+			}
+		}
+		return n;
+	}
+
+	/**
+	 * 年の参照.
+	 * @return 西暦４桁
+	 */
+	public int getYear(){
+		return year;
+	}
+	/**
+	 * 月の参照.
+	 * @return 1～12
+	 */
+	public int getMonth(){
+		return month;
+	}
+	/**
+	 * 週初めの曜日の参照.
+	 * @return DayOfWeek
+	 */
+	public DayOfWeek getWeekStart(){
+		return weekStart;
+	}
+	/**
+	 * 先頭のセルの LocalDate#toEpochDay() 値.
+	 * @return エポック日
+	 */
+	public long getFirstEpochDay(){
+		return firstEpochDay;
+	}
+	/**
+	 * 先頭のセルの日付.
+	 * @return LocalDate
+	 */
+	public LocalDate getFirstDate(){
+		return LocalDate.ofEpochDay(firstEpochDay);
+	}
+	/**
+	 * セルのコードを取得.
+	 * @param index セルのインデックス（0～41、週ごとに左から右）
+	 * @return セルのコード
+	 */
+	public int getCell(int index){
+		return cells[index];
+	}
+	/**
+	 * 今日の印を付けたセルのコードを取得.
+	 * @param index セルのインデックス（0～41、週ごとに左から右）
+	 * @param today 今日
+	 * @return セルのコード、今日であれば TODAY のビットを立てた値
+	 */
+	public int getCell(int index, LocalDate today){
+		int cell = cells[index];
+		if (today != null && today.toEpochDay()==firstEpochDay + index) cell |= TODAY;
+		return cell;
+	}
+	/**
+	 * 全てのセルのコードの複製を返す.
+	 * @return int[42]
+	 */
+	public int[] toCells(){
+		return cells.clone();
+	}
+	/**
+	 * 日付のセルのインデックス.
+	 * @param date 日付
+	 * @return 0～41、グリッドに無い日付は -1
+	 */
+	public int indexOf(LocalDate date){
+		long i = date.toEpochDay() - firstEpochDay;
+		return i < 0 || CELLS <= i ? -1 : (int)i;
+	}
+	/**
+	 * セルの日付.
+	 * @param index セルのインデックス（0～41）
+	 * @return LocalDate
+	 */
+	public LocalDate dateOf(int index){
+		if (index < 0 || CELLS <= index){
+			throw new IllegalArgumentException("index parameter Error");
+		}
+		return LocalDate.ofEpochDay(firstEpochDay + index);
+	}
+	/**
+	 * セルのコードから祝日名を取得.
+	 * @param cell セルのコード
+	 * @return Holiday.queryHoliday と同じ祝日名、祝日でなければ null
+	 */
+	public String getName(int cell){
+		return names[cell >>> NAME_SHIFT];
+	}
+	/**
+	 * 祝日名テーブルの複製を返す.
+	 * @return セルの NAME_SHIFT 以上のビットをインデックスとする祝日名、インデックス 0 は null
+	 */
+	public String[] getNames(){
+		return names.clone();
+	}
+	/**
+	 * JSON のバイト列（UTF-8）を返す.
+	 * <pre>
+	 * {"year":2026,"month":9,"weekStart":"SUNDAY","first":"2026-08-30",
+	 *  "cells":[セルのコード×42],"names":[null,"敬老の日",…]}
+	 * 最初の呼出しで作成し、以降は同じ内容を読取り専用のバッファで返す。
+	 * </pre>
+	 * @return 読取り専用の ByteBuffer
+	 */
+	public ByteBuffer toJson(){
+		byte[] b = json;
+		if (b==null){
+			// 内容は不変なので、競合して二重に作成されても問題ない
+			StringBuilder sb = new StringBuilder(512);
+			sb.append("{\"year\":").append(year).append(",\"month\":").append(month)
+			.append(",\"weekStart\":\"").append(weekStart).append("\",\"first\":\"").append(getFirstDate())
+			.append("\",\"cells\":[");
+			for(int i=0;i < CELLS;i++){
+				if (i > 0) sb.append(',');
+				sb.append(cells[i]);
+			}
+			sb.append("],\"names\":[null");
+			for(int i=1;i < names.length;i++){
+				sb.append(",\"").append(names[i]).append('"');
+			}
+			sb.append("]}");
+			b = sb.toString().getBytes(StandardCharsets.UTF_8);
+			json = b;
+		}
+		return ByteBuffer.wrap(b).asReadOnlyBuffer();
+	}
+}
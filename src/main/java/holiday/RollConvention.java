@@ -0,0 +1,140 @@
+package holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 営業日調整（休日の場合の日付の移動）の規則.
+ * <pre>
+ * BusinessCalendar の営業日に従い、休日（土曜日、日曜日、祝日）の日付を営業日に移動する。
+ * 規則ごとに、日のインデックス → 移動日数 の表を最初の参照時に一度だけ作成し、
+ * 調整は１回の配列参照で行う。
+ * 対象は BusinessCalendar.FIRST_EPOCH_DAY～BusinessCalendar.LAST_EPOCH_DAY の日付である。
+ * </pre>
+ * @since 4.1
+ */
+public enum RollConvention{
+	/** 調整しない */
+	UNADJUSTED,
+	/** 翌営業日 */
+	FOLLOWING,
+	/** 翌営業日、ただし月を跨ぐ場合は前営業日 */
+	MODIFIED_FOLLOWING,
+	/** 前営業日 */
+	PRECEDING,
+	/** 前営業日、ただし月を跨ぐ場合は翌営業日 */
+	MODIFIED_PRECEDING,
+	/** 月末ルール：営業日かどうかに関係なく、その月の最終営業日 */
+	END_OF_MONTH;
+
+	// 表は最初の参照時に作成する
+	private static final class Tables{
+		/** [ordinal()][日のインデックス] → 移動日数 */
+		static final byte[][] DELTAS;
+		static{
+			int size = (int)(BusinessCalendar.LAST_EPOCH_DAY - BusinessCalendar.FIRST_EPOCH_DAY) + 1;
+			int[] next = new int[size];
+			int[] prev = new int[size];
+			int first = (int)BusinessCalendar.FIRST_EPOCH_DAY;
+			int n = beyond((int)BusinessCalendar.LAST_EPOCH_DAY + 1, 1);
+			for(int i=size - 1;i >= 0;i--){
+				if (BusinessCalendar.isBusinessDay(first + i)) n = first + i;
+				next[i] = n;
+			}
+			int p = beyond(first - 1, -1);
+			for(int i=0;i < size;i++){
+				if (BusinessCalendar.isBusinessDay(first + i)) p = first + i;
+				prev[i] = p;
+			}
+			RollConvention[] values = values();
+			DELTAS = new byte[values.length][size];
+			int monthStart = 0;
+			int monthEnd = -1;
+			for(int i=0;i < size;i++){
+				int epochDay = first + i;
+				if (epochDay > monthEnd){
+					monthStart = epochDay;
+					monthEnd = epochDay + LocalDate.ofEpochDay(epochDay).lengthOfMonth() - 1;
+				}
+				for(RollConvention r : values){
+					int rolled;
+					switch(r){
+						case FOLLOWING:
+							rolled = next[i];
+							break;
+						case MODIFIED_FOLLOWING:
+							rolled = next[i] <= monthEnd ? next[i] : prev[i];
+							break;
+						case PRECEDING:
+							rolled = prev[i];
+							break;
+						case MODIFIED_PRECEDING:
+							rolled = prev[i] >= monthStart ? prev[i] : next[i];
+							break;
+						case END_OF_MONTH:
+							rolled = prev[monthEnd - first];
+							break;
+						default:
+							rolled = epochDay;
+					}
+					DELTAS[r.ordinal()][i] = (byte)(rolled - epochDay);
+				}
+			}
+		}
+		// 範囲外の前後の営業日（週末と Holiday の祝日計算で判定する）
+		private static int beyond(int epochDay, int step){
+			for(LocalDate d = LocalDate.ofEpochDay(epochDay);;d = d.plusDays(step)){
+				if (d.getDayOfWeek() != DayOfWeek.SATURDAY && d.getDayOfWeek() != DayOfWeek.SUNDAY && !Holiday.isHoliday(d)){
+					return (int)d.toEpochDay();
+				}
+			}
+		}
+	}
+
+	/**
+	 * エポック日の調整.
+	 * @param epochDay LocalDate#toEpochDay() の値
+	 * @return 調整後のエポック日
+	 */
+	public long adjust(long epochDay){
+		if (epochDay < BusinessCalendar.FIRST_EPOCH_DAY || BusinessCalendar.LAST_EPOCH_DAY < epochDay){
+			throw new IllegalArgumentException("epochDay parameter Error");
+		}
+		return epochDay + Tables.DELTAS[ordinal()][(int)(epochDay - BusinessCalendar.FIRST_EPOCH_DAY)];
+	}
+	/**
+	 * 日付の調整.
+	 * @param dt 日付
+	 * @return 調整後の日付
+	 */
+	public LocalDate adjust(LocalDate dt){
+		long epochDay = dt.toEpochDay();
+		long adjusted = adjust(epochDay);
+		return adjusted==epochDay ? dt : LocalDate.ofEpochDay(adjusted);
+	}
+	/**
+	 * エポック日の配列を一括して調整する（配列を書き換える）.
+	 * @param epochDays LocalDate#toEpochDay() の値の配列
+	 */
+	public void adjustAll(int[] epochDays){
+		adjustAll(epochDays, 0, epochDays.length);
+	}
+	/**
+	 * エポック日の配列の指定範囲を一括して調整する（配列を書き換える）.
+	 * 範囲外のエポック日があれば IllegalArgumentException を投げ、それ以降は調整しない。
+	 * @param epochDays LocalDate#toEpochDay() の値の配列
+	 * @param from 開始位置
+	 * @param to 終了位置（含まない）
+	 */
+	public void adjustAll(int[] epochDays, int from, int to){
+		byte[] deltas = Tables.DELTAS[ordinal()];
+		int first = (int)BusinessCalendar.FIRST_EPOCH_DAY;
+		for(int k=from;k < to;k++){
+			int i = epochDays[k] - first;
+			if (i < 0 || deltas.length <= i){
+				throw new IllegalArgumentException("epochDays[" + k + "] parameter Error");
+			}
+			epochDays[k] += deltas[i];
+		}
+	}
+}
@@ -0,0 +1,195 @@
+package holiday;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 営業日調整つきの定期スケジュール（支払日、利払日）の生成.
+ * <pre>
+ * 周期、応当日、月末ルール、営業日調整の規則、端数期間（スタブ）の位置を指定して生成し、
+ * 開始日、周期ごとの応当日、終了日を、未調整と調整後のエポック日の配列で返す。
+ * 月の1日のエポック日の表と RollConvention の表を参照するだけで、LocalDate は生成しない。
+ * 不変オブジェクトであり、複数スレッドで共有して並列に生成できる。
+ * 例）毎月２５日、翌営業日（月跨ぎは前営業日）、30年
+ *     Schedule s = new Schedule(Frequency.MONTHLY, 25, false, RollConvention.MODIFIED_FOLLOWING, Stub.SHORT_FRONT);
+ *     Schedule.Dates dates = s.generate(LocalDate.of(2026, 4, 10), LocalDate.of(2056, 4, 25));
+ * </pre>
+ * @since 4.1
+ */
+public final class Schedule{
+	/** 周期 */
+	public enum Frequency{
+		/** 毎月 */ MONTHLY(1),
+		/** ２か月ごと */ BIMONTHLY(2),
+		/** ３か月ごと */ QUARTERLY(3),
+		/** ６か月ごと */ SEMI_ANNUAL(6),
+		/** 毎年 */ ANNUAL(12);
+		private final int months;
+		private Frequency(int months){
+			this.months = months;
+		}
+		/**
+		 * @return 周期の月数
+		 */
+		public int getMonths(){
+			return months;
+		}
+	}
+	/** 端数期間（スタブ）の位置 */
+	public enum Stub{
+		/** 終了日から遡って応当日を決め、端数期間を先頭にする */ SHORT_FRONT,
+		/** 開始日から周期ごとに開始日の応当日を決め、端数期間を末尾にする（anchorDay は使わない） */ SHORT_BACK
+	}
+
+	private final Frequency frequency;
+	private final int anchorDay;
+	private final boolean endOfMonth;
+	private final RollConvention roll;
+	private final Stub stub;
+
+	/**
+	 * コンストラクタ.
+	 * @param frequency 周期
+	 * @param anchorDay 応当日 1～31、月の日数を超える場合は月末日（SHORT_BACK では開始日の日を応当日にする）
+	 * @param endOfMonth true=応当日を月末日にする（anchorDay は無視する）、SHORT_BACK では開始日が月末日の場合のみ
+	 * @param roll 営業日調整の規則
+	 * @param stub 端数期間の位置
+	 */
+	public Schedule(Frequency frequency, int anchorDay, boolean endOfMonth, RollConvention roll, Stub stub){
+		if (anchorDay < 1 || 31 < anchorDay){
+			throw new IllegalArgumentException("anchorDay parameter Error");
+		}
+		this.frequency = frequency;
+		this.anchorDay = anchorDay;
+		this.endOfMonth = endOfMonth;
+		this.roll = roll;
+		this.stub = stub;
+	}
+
+	/**
+	 * 開始日～終了日のスケジュールの最大の日付数（出力配列に必要な長さ）.
+	 * @param startEpochDay 開始日のエポック日
+	 * @param endEpochDay 終了日のエポック日
+	 * @return 日付数の上限
+	 */
+	public int maxSize(long startEpochDay, long endEpochDay){
+		int months = BusinessCalendar.monthIndexOf(endEpochDay) - BusinessCalendar.monthIndexOf(startEpochDay);
+		return months / frequency.getMonths() + 3;
+	}
+
+	/**
+	 * スケジュールの生成.
+	 * @param start 開始日
+	 * @param end 終了日
+	 * @return Dates
+	 */
+	public Dates generate(LocalDate start, LocalDate end){
+		long s = start.toEpochDay();
+		long e = end.toEpochDay();
+		int max = maxSize(s, e);
+		int[] unadjusted = new int[max];
+		int[] adjusted = new int[max];
+		int n = generate(s, e, unadjusted, adjusted);
+		return new Dates(Arrays.copyOf(unadjusted, n), Arrays.copyOf(adjusted, n));
+	}
+
+	/**
+	 * スケジュールを指定の配列に生成する.
+	 * 配列の長さは maxSize(long, long) 以上であること。
+	 * @param startEpochDay 開始日のエポック日
+	 * @param endEpochDay 終了日のエポック日
+	 * @param unadjusted 未調整のエポック日の出力先
+	 * @param adjusted 調整後のエポック日の出力先
+	 * @return 生成した日付数（開始日、終了日を含む）
+	 */
+	public int generate(long startEpochDay, long endEpochDay, int[] unadjusted, int[] adjusted){
+		if (startEpochDay < BusinessCalendar.FIRST_EPOCH_DAY || BusinessCalendar.LAST_EPOCH_DAY < endEpochDay
+			|| endEpochDay <= startEpochDay){
+			throw new IllegalArgumentException("start, end parameter Error");
+		}
+		int startMonth = BusinessCalendar.monthIndexOf(startEpochDay);
+		int endMonth = BusinessCalendar.monthIndexOf(endEpochDay);
+		int step = frequency.getMonths();
+		int n = 0;
+		unadjusted[n++] = (int)startEpochDay;
+		if (stub==Stub.SHORT_BACK){
+			// 開始日の日を応当日にするので、最初の期間は常に周期どおりになる
+			int startFirst = BusinessCalendar.monthStart(startMonth);
+			int day = (int)startEpochDay - startFirst + 1;
+			boolean eom = endOfMonth && day==BusinessCalendar.monthStart(startMonth + 1) - startFirst;
+			for(int mi=startMonth + step;mi <= endMonth;mi += step){
+				int d = dateOf(mi, day, eom);
+				if (endEpochDay <= d) break;
+				unadjusted[n++] = d;
+			}
+		}else{
+			// 終了日側から遡って求め、後で並べ替える
+			int from = n;
+			for(int mi=endMonth;mi >= startMonth;mi -= step){
+				int d = dateOf(mi, anchorDay, endOfMonth);
+				if (d <= startEpochDay) break;
+				if (d < endEpochDay) unadjusted[n++] = d;
+			}
+			for(int i=from, j=n - 1;i < j;i++, j--){
+				int t = unadjusted[i];
+				unadjusted[i] = unadjusted[j];
+				unadjusted[j] = t;
+			}
+		}
+		unadjusted[n++] = (int)endEpochDay;
+		System.arraycopy(unadjusted, 0, adjusted, 0, n);
+		roll.adjustAll(adjusted, 0, n);
+		return n;
+	}
+
+	// 月のインデックスの応当日のエポック日
+	private static int dateOf(int monthIndex, int day, boolean endOfMonth){
+		int first = BusinessCalendar.monthStart(monthIndex);
+		int length = BusinessCalendar.monthStart(monthIndex + 1) - first;
+		return first + (endOfMonth ? length : Math.min(day, length)) - 1;
+	}
+
+	/**
+	 * 生成したスケジュール.
+	 */
+	public static final class Dates{
+		private final int[] unadjusted;
+		private final int[] adjusted;
+		private Dates(int[] unadjusted, int[] adjusted){
+			this.unadjusted = unadjusted;
+			this.adjusted = adjusted;
+		}
+		/**
+		 * @return 日付数（開始日、終了日を含む）
+		 */
+		public int size(){
+			return unadjusted.length;
+		}
+		/**
+		 * @return 未調整のエポック日の配列
+		 */
+		public int[] getUnadjusted(){
+			return unadjusted;
+		}
+		/**
+		 * @return 調整後のエポック日の配列
+		 */
+		public int[] getAdjusted(){
+			return adjusted;
+		}
+		/**
+		 * @param i 位置
+		 * @return 未調整の日付
+		 */
+		public LocalDate unadjustedDate(int i){
+			return LocalDate.ofEpochDay(unadjusted[i]);
+		}
+		/**
+		 * @param i 位置
+		 * @return 調整後の日付
+		 */
+		public LocalDate adjustedDate(int i){
+			return LocalDate.ofEpochDay(adjusted[i]);
+		}
+	}
+}
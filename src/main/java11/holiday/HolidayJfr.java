@@ -0,0 +1,177 @@
+package holiday;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 祝日検索の JDK Flight Recorder イベント.
+ * <pre>
+ * HolidayMonitor として登録し、次のイベントを記録する。
+ *   holiday.CacheMiss       年間テーブルのキャッシュミス（年）
+ *   holiday.YearTableBuild  年間テーブルの作成（年、作成時間）
+ *   holiday.RulesReload     年間テーブルのキャッシュの破棄（Holiday.clearTables）
+ *   holiday.SlowBatch       閾値以上の時間を要した一括取得（API、年、件数、処理時間）
+ *   holiday.ApiCalls        API ごとの呼出し回数（累計）を周期（既定 1 s）ごとに記録
+ * 既定では登録されず、Holiday の検索の都度の処理は登録数の確認のみである。
+ * install() で登録すると、検索の都度 API ごとの LongAdder を加算する（オブジェクトは生成しない）。
+ * イベントの有効、無効、周期は JFR の設定（.jfc、-XX:StartFlightRecording の settings）に従う。
+ * jdk.jfr を使用するので Java 11 以降でコンパイルする（src/main/java は Java 8 のまま）。
+ * Eclipse のプロジェクト（.classpath、Java 8）には含めないので、README.md の「Java のコンパイル」の手順でコンパイルする。
+ *   javac --release 8 -encoding UTF-8 -d out src/main/java/holiday/*.java
+ *   javac --release 11 -encoding UTF-8 -cp out -d out src/main/java11/holiday/*.java
+ * 例）HolidayJfr.install(Duration.ofMillis(5));
+ *     java -XX:StartFlightRecording=filename=holiday.jfr …
+ *     jfr print --categories Holiday holiday.jfr
+ * </pre>
+ * @since 4.1
+ */
+public final class HolidayJfr extends HolidayMonitor{
+	/** 一括取得の閾値の既定値 */
+	public static final Duration DEFAULT_SLOW_BATCH = Duration.ofMillis(10);
+
+	@Name("holiday.CacheMiss")
+	@Label("Holiday Cache Miss")
+	@Category("Holiday")
+	@Description("年間テーブルのキャッシュミス")
+	static final class CacheMissEvent extends Event{
+		@Label("Year") int year;
+	}
+	@Name("holiday.YearTableBuild")
+	@Label("Holiday Year Table Build")
+	@Category("Holiday")
+	@Description("年間テーブルの作成")
+	@StackTrace(false)
+	static final class YearTableBuildEvent extends Event{
+		@Label("Year") int year;
+		@Label("Build Time") @Timespan(Timespan.NANOSECONDS) long buildTime;
+	}
+	@Name("holiday.RulesReload")
+	@Label("Holiday Rules Reload")
+	@Category("Holiday")
+	@Description("年間テーブルのキャッシュの破棄、次の参照時に祝日の規則から作成し直す")
+	static final class RulesReloadEvent extends Event{
+	}
+	@Name("holiday.SlowBatch")
+	@Label("Holiday Slow Batch")
+	@Category("Holiday")
+	@Description("閾値以上の時間を要した一括取得")
+	static final class SlowBatchEvent extends Event{
+		@Label("API") String api;
+		@Label("Year") int year;
+		@Label("Size") int size;
+		@Label("Elapsed") @Timespan(Timespan.NANOSECONDS) long elapsed;
+	}
+	@Name("holiday.ApiCalls")
+	@Label("Holiday API Calls")
+	@Category("Holiday")
+	@Description("API ごとの呼出し回数（累計）")
+	@Period("1 s")
+	@StackTrace(false)
+	static final class ApiCallsEvent extends Event{
+		@Label("API") String api;
+		@Label("Calls") long calls;
+	}
+
+	private static final EventType CACHE_MISS = EventType.getEventType(CacheMissEvent.class);
+	private static final EventType YEAR_TABLE_BUILD = EventType.getEventType(YearTableBuildEvent.class);
+	private static final EventType SLOW_BATCH = EventType.getEventType(SlowBatchEvent.class);
+	private static HolidayJfr installed;
+
+	private final LongAdder[] calls = new LongAdder[Api.values().length];
+	private final long slowBatchNanos;
+	private final Runnable sampler = this::sample;
+
+	private HolidayJfr(Duration slowBatch){
+		for(int i=0;i < calls.length;i++) calls[i] = new LongAdder();
+		this.slowBatchNanos = slowBatch.toNanos();
+	}
+
+	/**
+	 * 一括取得の閾値を既定値（10 ms）としてイベントの記録を開始する.
+	 */
+	public static void install(){
+		install(DEFAULT_SLOW_BATCH);
+	}
+	/**
+	 * イベントの記録を開始する.
+	 * 開始済であれば、閾値を変えて開始し直す。
+	 * @param slowBatch 一括取得の閾値
+	 */
+	public static synchronized void install(Duration slowBatch){
+		if (slowBatch==null || slowBatch.isNegative()){
+			throw new IllegalArgumentException("slowBatch parameter Error");
+		}
+		uninstall();
+		installed = new HolidayJfr(slowBatch);
+		FlightRecorder.addPeriodicEvent(ApiCallsEvent.class, installed.sampler);
+		HolidayMonitor.register(installed);
+	}
+	/**
+	 * イベントの記録を終了する.
+	 */
+	public static synchronized void uninstall(){
+		if (installed==null) return;
+		HolidayMonitor.unregister(installed);
+		FlightRecorder.removePeriodicEvent(installed.sampler);
+		installed = null;
+	}
+
+	// 周期ごとに API ごとの呼出し回数を記録
+	private void sample(){
+		Api[] apis = Api.values();
+		for(int i=0;i < apis.length;i++){
+			long n = calls[i].sum();
+			if (n==0) continue;
+			ApiCallsEvent e = new ApiCallsEvent();
+			e.api = apis[i].name();
+			e.calls = n;
+			e.commit();
+		}
+	}
+
+	@Override
+	protected void called(Api api){
+		calls[api.ordinal()].increment();
+	}
+	@Override
+	protected void cacheMiss(int year){
+		if (!CACHE_MISS.isEnabled()) return;
+		CacheMissEvent e = new CacheMissEvent();
+		e.year = year;
+		e.commit();
+	}
+	@Override
+	protected void yearTableBuilt(int year, long nanos){
+		if (!YEAR_TABLE_BUILD.isEnabled()) return;
+		YearTableBuildEvent e = new YearTableBuildEvent();
+		e.year = year;
+		e.buildTime = nanos;
+		e.commit();
+	}
+	@Override
+	protected void tablesCleared(){
+		new RulesReloadEvent().commit();
+	}
+	@Override
+	protected void batchCompleted(Api api, int year, int size, long nanos){
+		calls[api.ordinal()].increment();
+		if (nanos < slowBatchNanos || !SLOW_BATCH.isEnabled()) return;
+		SlowBatchEvent e = new SlowBatchEvent();
+		e.api = api.name();
+		e.year = year;
+		e.size = size;
+		e.elapsed = nanos;
+		e.commit();
+	}
+}
@@ -2,7 +2,6 @@
 from datetime import date, timedelta
 import calendar
 from abc import ABCMeta, abstractmethod
-import math
 ######################################################################
 # 祝日計算
 #     from holiday import Holiday
@@ -240,9 +239,9 @@ class SpringEquinoxDay(Holidaybundle):
         self.change = 1
     def getDate(self) -> date:
         if self.year <= 2099:
-            day = math.ceil(20.8431 + (0.242194 * (self.year - 1980)) - ((self.year - 1980)/4))
+            day = int(20.8431 + (0.242194 * (self.year - 1980)) - ((self.year - 1980)//4))
         else:
-            day = math.ceil(21.851 + (0.242194 * (self.year - 1980)) - ((self.year - 1980)/4))
+            day = int(21.851 + (0.242194 * (self.year - 1980)) - ((self.year - 1980)//4))
         return date(self.year, 3, day)
     def getDescription(self) -> str:
         return '春分の日'
@@ -323,9 +322,9 @@ class AutumnEquinoxDay(Holidaybundle):
         self.change = 1
     def getDate(self) -> date:
         if self.year <= 2099:
-            day = math.ceil(23.2488 + (0.242194 * (self.year - 1980)) - ((self.year - 1980)/4))
+            day = int(23.2488 + (0.242194 * (self.year - 1980)) - ((self.year - 1980)//4))
         else:
-            day = math.ceil(24.2488 + (0.242194 * (self.year - 1980)) - ((self.year - 1980)/4))
+            day = int(24.2488 + (0.242194 * (self.year - 1980)) - ((self.year - 1980)//4))
         return date(self.year, 9, day)
     def getDescription(self) -> str:
         return '秋分の日'
@@ -360,3 +359,130 @@ class LaborThanksDay(Holidaybundle):
     def getDescription(self) ->str:
         return '勤労感謝の日'
 
+######################################################################
+# 年ごとのキャッシュによる祝日判定、営業日計算（標準ライブラリのみ）
+#     from holiday import is_holiday, next_holiday, add_business_days, business_days_between, is_holiday_bulk
+#  祝日か？ : def is_holiday(d:date)->bool:
+#     is_holiday(date(2026, 9, 22))
+#  祝日名、祝日でなければ None : def holiday_name(d:date)->str:
+#  指定日より後の最初の祝日 Tuple(datetime.date, ’祝日名’) : def next_holiday(d:date)->(date, str):
+#  営業日（土日祝以外）で n 日後、負の値は n 日前 : def add_business_days(d:date, n:int)->date:
+#  start 以上 end 未満の営業日数 : def business_days_between(start:date, end:date)->int:
+#  date のリストを一括して祝日か？判定 : def is_holiday_bulk(dates:[date])->[bool]:
+# 年ごとに Holiday(year).listHolidays() を一度だけ計算して、
+# 祝日の序数（date.toordinal()）の昇順リストと祝日名を保持し、bisect で検索する。
+######################################################################
+from bisect import bisect_left, bisect_right
+# 年 → _YearEntry
+_YEAR_CACHE = {}
+class _YearEntry:
+    __slots__ = ('ordinals', 'names', 'ordinal_set', 'weekday_ordinals')
+    def __init__(self, tps:[(date, str)]):
+        # 祝日の序数の昇順リスト、祝日名
+        self.ordinals = [d.toordinal() for d, n in tps]
+        self.names = [n for d, n in tps]
+        self.ordinal_set = frozenset(self.ordinals)
+        # 平日（月～金）の祝日の序数、営業日数の計算用
+        self.weekday_ordinals = [d.toordinal() for d, n in tps if d.weekday() < 5]
+# 年のキャッシュを取得、無ければ作成
+def _year_entry(year:int)->_YearEntry:
+    entry = _YEAR_CACHE.get(year)
+    if entry is None:
+        entry = _YearEntry(sorted(t for t in Holiday(year).listHolidays() if t[0] is not None))
+        _YEAR_CACHE[year] = entry
+    return entry
+# キャッシュのクリア
+def clear_cache()->None:
+    _YEAR_CACHE.clear()
+# 祝日か？
+def is_holiday(d:date)->bool:
+    return d.toordinal() in _year_entry(d.year).ordinal_set
+# 祝日名、祝日でなければ None
+def holiday_name(d:date)->str:
+    entry = _year_entry(d.year)
+    o = d.toordinal()
+    i = bisect_left(entry.ordinals, o)
+    if i < len(entry.ordinals) and entry.ordinals[i] == o:
+        return entry.names[i]
+    return None
+# 指定日より後の最初の祝日 Tuple(datetime.date, ’祝日名’)
+def next_holiday(d:date)->(date, str):
+    o = d.toordinal()
+    for year in range(d.year, d.year + 2):
+        entry = _year_entry(year)
+        i = bisect_right(entry.ordinals, o)
+        if i < len(entry.ordinals):
+            return (date.fromordinal(entry.ordinals[i]), entry.names[i])
+    return None
+# 営業日（土日祝以外）か？
+def is_business_day(d:date)->bool:
+    return d.weekday() < 5 and not is_holiday(d)
+# 序数 a 以上 b 未満の平日（月～金）の数
+def _weekdays(a:int, b:int)->int:
+    weeks, rest = divmod(b - a, 7)
+    count = weeks * 5
+    # date.fromordinal(1) は月曜日
+    w = (a - 1) % 7
+    for i in range(rest):
+        if (w + i) % 7 < 5:
+            count += 1
+    return count
+# start 以上 end 未満の営業日数、end が start より前の場合は負の値
+def business_days_between(start:date, end:date)->int:
+    if end < start:
+        return -business_days_between(end, start)
+    a = start.toordinal()
+    b = end.toordinal()
+    holidays = 0
+    for year in range(start.year, end.year + 1):
+        ords = _year_entry(year).weekday_ordinals
+        holidays += bisect_left(ords, b) - bisect_left(ords, a)
+    return _weekdays(a, b) - holidays
+# 営業日（土日祝以外）で n 日後の日付、負の値は n 日前、0 は指定日
+def add_business_days(d:date, n:int)->date:
+    step = 1 if n >= 0 else -1
+    remaining = abs(n)
+    # 週単位で進めて、その間の営業日数を差し引く（最後の営業日は１日ずつ進めて求めるので、5 日以上残す）
+    while remaining >= 10:
+        nd = d + timedelta(days=step * (remaining // 5 - 1) * 7)
+        if step > 0:
+            remaining -= business_days_between(d + timedelta(days=1), nd + timedelta(days=1))
+        else:
+            remaining -= business_days_between(nd, d)
+        d = nd
+    while remaining > 0:
+        d += timedelta(days=step)
+        if is_business_day(d):
+            remaining -= 1
+    return d
+# date のリストを一括して祝日か？判定
+def is_holiday_bulk(dates:[date])->[bool]:
+    result = []
+    year = None
+    ordinal_set = None
+    for d in dates:
+        if d.year != year:
+            year = d.year
+            ordinal_set = _year_entry(year).ordinal_set
+        result.append(d.toordinal() in ordinal_set)
+    return result
+######################################################################
+# ゴールデンファイル（Java の holiday.HolidayGolden が出力する全祝日の一覧）
+#  yyyymmdd<TAB>祝日名 の行の Tuple(datetime.date, ’祝日名’) のリスト : def read_golden(path:str)->[(date, str)]:
+#  ゴールデンファイルの年をキャッシュに読み込み、以降の is_holiday 等は計算せずに参照する : def load_golden(path:str)->None:
+######################################################################
+def read_golden(path:str)->[(date, str)]:
+    tps = []
+    with open(path, encoding='utf-8') as f:
+        for line in f:
+            if line.startswith('#') or not line.strip():
+                continue
+            ymd, name = line.rstrip('\r\n').split('\t', 1)
+            tps.append((date(int(ymd[0:4]), int(ymd[4:6]), int(ymd[6:8])), name))
+    return tps
+def load_golden(path:str)->None:
+    years = {}
+    for t in read_golden(path):
+        years.setdefault(t[0].year, []).append(t)
+    for year, tps in years.items():
+        _YEAR_CACHE[year] = _YearEntry(sorted(tps))
@@ -1,14 +1,262 @@
 /*
- * jholiday.js  祝日取得    ver 1.52
+ * jholiday.js  祝日取得    ver 1.55
  */
 if (typeof(JHoliday) == "undefined") JHoliday = { };
 
+/*-- 表参照モード ---------------------------------------------------------------------------------*/
+/* Java の holiday.HolidayJsTable が出力した祝日表、null の場合は計算する */
+JHoliday.table = null;
+/**
+ * 祝日表（JSON を解析したオブジェクト）を読み込む。
+ * 以降、表の範囲の年は各関数が計算せずに表のビットマスクを参照して答える。
+ * null を指定すると計算に戻る。
+ * @param table
+ */
+JHoliday.loadTable = function(table){
+	if (table != null){
+		// 年、月ごとの codes の開始位置
+		table.offsets = [];
+		for(var y = 0; y <= table.to - table.from; y++){
+			var n = 0;
+			for(var m = 0; m < 12; m++){
+				table.offsets.push(n);
+				n += JHoliday.bitCount(table.masks[y * 12 + m]);
+			}
+		}
+	}
+	JHoliday.table = table;
+	JHoliday.cache = [];
+};
+/**
+ * 祝日表を URL から読み込む。
+ * @param url
+ * @param callback 読み込み後に true=成功 / false=失敗 で呼ぶ
+ */
+JHoliday.loadTableUrl = function(url, callback){
+	var xhr = new XMLHttpRequest();
+	xhr.open("GET", url);
+	xhr.onload = function(){
+		if (xhr.status==200){
+			JHoliday.loadTable(JSON.parse(xhr.responseText));
+		}
+		if (callback) callback(xhr.status==200);
+	};
+	xhr.send();
+};
+/**
+ * ゴールデンファイル（Java の holiday.HolidayGolden が出力する yyyymmdd<TAB>祝日名 の行）を
+ * 祝日表に変換して読み込む。
+ * @param text ゴールデンファイルの内容
+ */
+JHoliday.loadGolden = function(text){
+	var table = { 'from':0, 'to':0, 'names':[], 'masks':[], 'codes':[] };
+	var index = { };
+	text.split(/\r?\n/).forEach(function(line){
+		if (line=="" || line.charAt(0)=="#") return;
+		var tab = line.indexOf("\t");
+		var year = parseInt(line.substring(0, 4), 10);
+		var month = parseInt(line.substring(4, 6), 10);
+		var day = parseInt(line.substring(6, 8), 10);
+		var name = line.substring(tab + 1);
+		if (table.from==0) table.from = year;
+		table.to = year;
+		while(table.masks.length < (year - table.from + 1) * 12) table.masks.push(0);
+		while(table.codes.length < year - table.from + 1) table.codes.push([]);
+		if (index[name]==null){
+			index[name] = table.names.length;
+			table.names.push(name);
+		}
+		table.masks[(year - table.from) * 12 + month - 1] |= 1 << (day - 1);
+		table.codes[year - table.from].push(index[name]);
+	});
+	JHoliday.loadTable(table);
+};
+/* 表の範囲の年か？ */
+JHoliday.inTable = function(year){
+	var t = JHoliday.table;
+	year = parseInt(year);
+	return t != null && t.from <= year && year <= t.to;
+};
+/* 32bit のビット数 */
+JHoliday.bitCount = function(n){
+	n = n - ((n >>> 1) & 0x55555555);
+	n = (n & 0x33333333) + ((n >>> 2) & 0x33333333);
+	return (((n + (n >>> 4)) & 0x0f0f0f0f) * 0x01010101) >>> 24;
+};
+/* 表の月の祝日ビットマスク（日 d → ビット d-1） */
+JHoliday.tableMask = function(year, month){
+	return JHoliday.table.masks[(parseInt(year) - JHoliday.table.from) * 12 + parseInt(month) - 1];
+};
+/* 表の祝日名、祝日でなければ "" */
+JHoliday.tableName = function(year, month, day){
+	var t = JHoliday.table;
+	var mask = JHoliday.tableMask(year, month);
+	var bit = 1 << (day - 1);
+	if ((mask & bit)==0) return "";
+	var y = parseInt(year) - t.from;
+	return t.names[t.codes[y][t.offsets[y * 12 + parseInt(month) - 1] + JHoliday.bitCount(mask & (bit - 1))]];
+};
+/* 表の月の祝日 Date の配列 */
+JHoliday.tableDateArray = function(year, month){
+	var ary = [];
+	for(var m = JHoliday.tableMask(year, month); m != 0; m &= m - 1){
+		ary.push(new Date(year, month - 1, JHoliday.bitCount((m & -m) - 1) + 1));
+	}
+	return ary;
+};
+/* 表の月の祝日 { 'date': yyyy-mm-dd, 'description': "xxx", 'week':xxx } の配列 */
+JHoliday.tableHolidayArray = function(year, month){
+	return JHoliday.tableDateArray(year, month).map(function(d){
+		return { 'date': JHoliday.dateFormate(d), 'description': JHoliday.tableName(year, month, d.getDate()), 'week':JHoliday.dayOfweek(d) };
+	});
+};
+/*-------------------------------------------------------------------------------------------------*/
+/*-- 年ごとのキャッシュ ----------------------------------------------------------------------------*/
+/* キャッシュする年数、0 の場合はキャッシュしない */
+JHoliday.CACHE_SIZE = 4;
+/* 最近参照した順の { 'year':年, 'masks':[月ごとの祝日ビットマスク], 'names':[月ごとの { 日:祝日名 }] } */
+JHoliday.cache = [];
+/**
+ * 指定年のキャッシュを参照する。無ければ作成して、最も古い年を追い出す。
+ * @param year
+ */
+JHoliday.yearEntry = function(year){
+	year = parseInt(year);
+	var c = JHoliday.cache;
+	for(var i = 0; i < c.length; i++){
+		if (c[i].year==year){
+			if (i > 0) c.unshift(c.splice(i, 1)[0]);
+			return c[0];
+		}
+	}
+	var entry = JHoliday.buildYear(year);
+	if (JHoliday.CACHE_SIZE > 0){
+		c.unshift(entry);
+		if (c.length > JHoliday.CACHE_SIZE) c.pop();
+	}
+	return entry;
+};
+/* 指定年の祝日ビットマスクと祝日名を計算する（表参照モードの年では呼ばない） */
+JHoliday.buildYear = function(year){
+	var entry = { 'year':year, 'masks':[], 'names':[] };
+	for(var m = 1; m <= 12; m++){
+		entry.masks.push(JHoliday.buildMask(year, m));
+		entry.names.push(JHoliday.buildNames(year, m));
+	}
+	return entry;
+};
+/* 指定年月の祝日ビットマスクを計算する */
+JHoliday.buildMask = function(year, month){
+	var mask = 0;
+	JHoliday.getMonthDateArray(year, month).forEach(function(e){
+		mask |= 1 << (e.getDate() - 1);
+	});
+	return mask;
+};
+/* 指定年月の { 日:祝日名 } を計算する */
+JHoliday.buildNames = function(year, month){
+	var names = { };
+	var prefix = JHoliday.dateFormate(new Date(year, month - 1, 1)).substring(0, 8);
+	JHoliday.getMonthHolidayArray(year, month).forEach(function(e){
+		if (e['date'].substring(0, 8)==prefix) names[parseInt(e['date'].substring(8), 10)] = e['description'];
+	});
+	return names;
+};
+/*
+ * 月の祝日ビットマスク（日 d → ビット d-1）、表参照モードでは表、それ以外はキャッシュを参照する。
+ * CACHE_SIZE が 0 の場合は、年全体を計算せずに指定月のみを計算する。
+ */
+JHoliday.monthMask = function(year, month){
+	if (JHoliday.inTable(year)) return JHoliday.tableMask(year, month);
+	if (JHoliday.CACHE_SIZE <= 0) return JHoliday.buildMask(parseInt(year), parseInt(month));
+	return JHoliday.yearEntry(year).masks[parseInt(month) - 1];
+};
+/* 祝日名、祝日でなければ null（CACHE_SIZE が 0 の場合は指定月のみを計算する） */
+JHoliday.holidayName = function(year, month, day){
+	if (JHoliday.inTable(year)){
+		var name = JHoliday.tableName(year, month, day);
+		return name=="" ? null : name;
+	}
+	var names = JHoliday.CACHE_SIZE <= 0 ? JHoliday.buildNames(parseInt(year), parseInt(month))
+		: JHoliday.yearEntry(year).names[parseInt(month) - 1];
+	var name = names[parseInt(day)];
+	return name==null ? null : name;
+};
+/*-------------------------------------------------------------------------------------------------*/
+
+/**
+ * 指定日の祝日名を返す。祝日でなければ null（Java の Holiday.queryHoliday）
+ * @param Date型
+ * @return description or null
+ */
+JHoliday.queryHoliday = function(date){
+	return JHoliday.holidayName(date.getFullYear(), date.getMonth() + 1, date.getDate());
+};
+/**
+ * 期間の祝日 { 'date': yyyy-mm-dd, 'description': "xxx", 'week':xxx } の配列を返す。
+ * （Java の HolidayIndex.dates、HolidayServer の /holidays?from=&to= の期間指定）
+ * @param from Date型（含む）
+ * @param to Date型（含む）
+ */
+JHoliday.listHolidays = function(from, to){
+	var rtns = [];
+	var first = from.getFullYear() * 10000 + (from.getMonth() + 1) * 100 + from.getDate();
+	var last = to.getFullYear() * 10000 + (to.getMonth() + 1) * 100 + to.getDate();
+	for(var y = from.getFullYear(); y <= to.getFullYear(); y++){
+		var m1 = y==from.getFullYear() ? from.getMonth() + 1 : 1;
+		var m2 = y==to.getFullYear() ? to.getMonth() + 1 : 12;
+		for(var m = m1; m <= m2; m++){
+			for(var mask = JHoliday.monthMask(y, m); mask != 0; mask &= mask - 1){
+				var d = JHoliday.bitCount((mask & -mask) - 1) + 1;
+				var ymd = y * 10000 + m * 100 + d;
+				if (first <= ymd && ymd <= last){
+					rtns.push(JHoliday.holidayEntry(y, m, d));
+				}
+			}
+		}
+	}
+	return rtns;
+};
+/**
+ * 指定日より後の最初の祝日 { 'date': yyyy-mm-dd, 'description': "xxx", 'week':xxx } を返す。
+ * １年以内に無ければ null
+ * @param Date型（含まない）
+ */
+JHoliday.nextHoliday = function(date){
+	var y = date.getFullYear();
+	var m = date.getMonth() + 1;
+	// 指定日以前のビットを除く
+	var mask = JHoliday.monthMask(y, m) & ~((2 << (date.getDate() - 1)) - 1);
+	for(var i = 0; i <= 12; i++){
+		if (mask != 0){
+			return JHoliday.holidayEntry(y, m, JHoliday.bitCount((mask & -mask) - 1) + 1);
+		}
+		if (++m > 12){
+			m = 1;
+			y++;
+		}
+		mask = JHoliday.monthMask(y, m);
+	}
+	return null;
+};
+/* { 'date': yyyy-mm-dd, 'description': "xxx", 'week':xxx } */
+JHoliday.holidayEntry = function(year, month, day){
+	var d = new Date(year, month - 1, day);
+	return { 'date': JHoliday.dateFormate(d), 'description': JHoliday.holidayName(year, month, day), 'week':JHoliday.dayOfweek(d) };
+};
+
 /**
  * 指定年の祝日(JSON)を取得
  * @param year
  */
 JHoliday.getHolidays = function(year){
 	var rtns = new Array();
+	if (JHoliday.inTable(year)){
+		for(var m = 1; m <= 12; m++){
+			JHoliday.tableHolidayArray(year, m).forEach(function(e){ rtns.push(e); });
+		}
+		return rtns;
+	}
 	JHoliday.january(year).forEach(function(e){ rtns.push(e); });
 	JHoliday.february(year).forEach(function(e){ rtns.push(e); });
 	JHoliday.march(year).forEach(function(e){ rtns.push(e); });
@@ -30,6 +278,12 @@ JHoliday.getHolidays = function(year){
  */
 JHoliday.getDateArray = function(year){
 	var rtns = new Array();
+	if (JHoliday.inTable(year)){
+		for(var m = 1; m <= 12; m++){
+			JHoliday.tableDateArray(year, m).forEach(function(e){ rtns.push(e); });
+		}
+		return rtns;
+	}
 	JHoliday.dateArray1(year).forEach(function(e){ rtns.push(e); });
 	JHoliday.dateArray2(year).forEach(function(e){ rtns.push(e); });
 	JHoliday.dateArray3(year).forEach(function(e){ rtns.push(e); });
@@ -50,6 +304,7 @@ JHoliday.getDateArray = function(year){
  * @param month ；  1 = １月
  */
 JHoliday.getMonthDateArray = function(year, month){
+	if (JHoliday.inTable(year)) return JHoliday.tableDateArray(year, month);
 	switch(parseInt(month)){
 	case 1: return JHoliday.dateArray1(year);
 	case 2: return JHoliday.dateArray2(year);
@@ -74,6 +329,9 @@ JHoliday.getMonthDateArray = function(year, month){
 JHoliday.getDays = function(year, month){
 	var rtns = [];
 	var ary = [];
+	if (JHoliday.inTable(year)){
+		return JHoliday.tableDateArray(year, month).map(function(e){ return e.getDate(); });
+	}
 	switch(parseInt(month)){
 	case 1: ary = JHoliday.dateArray1(year); break;
 	case 2: ary = JHoliday.dateArray2(year); break;
@@ -103,29 +361,7 @@ JHoliday.getDays = function(year, month){
  * @return 0=祝祭日でない。1=祝祭日である。
  */
 JHoliday.isHoliday = function(year, month, day){
-	var rtn = 0;
-	var ary = [];
-	switch(parseInt(month)){
-	case 1: ary = JHoliday.dateArray1(year); break;
-	case 2: ary = JHoliday.dateArray2(year); break;
-	case 3: ary = JHoliday.dateArray3(year); break;
-	case 4: ary = JHoliday.dateArray4(year); break;
-	case 5: ary = JHoliday.dateArray5(year); break;
-	case 6: ary = JHoliday.dateArray6(year); break;
-	case 7: ary = JHoliday.dateArray7(year); break;
-	case 8: ary = JHoliday.dateArray8(year); break;
-	case 9: ary = JHoliday.dateArray9(year); break;
-	case 10: ary = JHoliday.dateArray10(year); break;
-	case 11: ary = JHoliday.dateArray11(year); break;
-	case 12: ary = JHoliday.dateArray12(year); break;
-	}
-	ary.forEach(function(e){
-		var rday = new Date(Date.parse(e)).getDate();
-		if ( new Date(Date.parse(e)).getDate() == day){
-			return rtn = 1;
-		}
-	});
-	return rtn;
+	return (JHoliday.monthMask(year, month) >> (day - 1)) & 1;
 };
 /**
  * 指定する日が祝祭日かどうかを返す。（Date型を指定）
@@ -134,31 +370,7 @@ JHoliday.isHoliday = function(year, month, day){
  * @return 0=祝祭日でない。1=祝祭日である。
  */
 JHoliday.isHolidayDate = function(date){
-	var rtn = 0;
-	var ary = [];
-	var year = parseInt(date.getFullYear());
-	var day = parseInt(date.getDate());
-	switch(parseInt(date.getMonth())){
-	case 0: ary = JHoliday.dateArray1(year); break;
-	case 1: ary = JHoliday.dateArray2(year); break;
-	case 2: ary = JHoliday.dateArray3(year); break;
-	case 3: ary = JHoliday.dateArray4(year); break;
-	case 4: ary = JHoliday.dateArray5(year); break;
-	case 5: ary = JHoliday.dateArray6(year); break;
-	case 6: ary = JHoliday.dateArray7(year); break;
-	case 7: ary = JHoliday.dateArray8(year); break;
-	case 8: ary = JHoliday.dateArray9(year); break;
-	case 9: ary = JHoliday.dateArray10(year); break;
-	case 10: ary = JHoliday.dateArray11(year); break;
-	case 11: ary = JHoliday.dateArray12(year); break;
-	}
-	ary.forEach(function(e){
-		var rday = new Date(Date.parse(e)).getDate();
-		if ( new Date(Date.parse(e)).getDate() == day){
-			return rtn = 1;
-		}
-	});
-	return rtn;
+	return (JHoliday.monthMask(date.getFullYear(), date.getMonth() + 1) >> (date.getDate() - 1)) & 1;
 };
 /**
  * 指定する日が祝祭日の場合に descriptionを返す。（年、月、日を指定）
@@ -169,30 +381,8 @@ JHoliday.isHolidayDate = function(date){
  * @return description
  */
 JHoliday.description = function(year, month, day){
-	var rtn = 0;
-	var ary = [];
-	switch(parseInt(month)){
-	case 1: ary = JHoliday.january(year); break;
-	case 2: ary = JHoliday.february(year); break;
-	case 3: ary = JHoliday.march(year); break;
-	case 4: ary = JHoliday.april(year); break;
-	case 5: ary = JHoliday.may(year); break;
-	case 6: ary = JHoliday.june(year); break;
-	case 7: ary = JHoliday.july(year); break;
-	case 8: ary = JHoliday.august(year); break;
-	case 9: ary = JHoliday.september(year); break;
-	case 10: ary = JHoliday.october(year); break;
-	case 11: ary = JHoliday.november(year); break;
-	case 12: ary = JHoliday.december(year); break;
-	}
-	var tstr = moment().year(year).month(month - 1).date(day).format("YYYY-MM-DD");
-	var rtn = "";
-	ary.forEach(function(e){
-		if (tstr == e["date"]){
-			rtn = e["description"];
-		}
-	});
-	return rtn;
+	var name = JHoliday.holidayName(year, month, day);
+	return name==null ? "" : name;
 };
 /**
  * 指定する日が祝祭日の場合に descriptionを返す。（Date型を指定）
@@ -201,33 +391,7 @@ JHoliday.description = function(year, month, day){
  * @return description
  */
 JHoliday.descriptionDate = function(date){
-	var rtn = 0;
-	var ary = [];
-	var year = parseInt(date.getFullYear());
-	var day = parseInt(date.getDate());
-	month = parseInt(date.getMonth()+1);
-	switch(month){
-	case 1: ary = JHoliday.january(year); break;
-	case 2: ary = JHoliday.february(year); break;
-	case 3: ary = JHoliday.march(year); break;
-	case 4: ary = JHoliday.april(year); break;
-	case 5: ary = JHoliday.may(year); break;
-	case 6: ary = JHoliday.june(year); break;
-	case 7: ary = JHoliday.july(year); break;
-	case 8: ary = JHoliday.august(year); break;
-	case 9: ary = JHoliday.september(year); break;
-	case 10: ary = JHoliday.october(year); break;
-	case 11: ary = JHoliday.november(year); break;
-	case 12: ary = JHoliday.december(year); break;
-	}
-	var tstr = moment().year(year).month(month - 1).date(day).format("YYYY-MM-DD");
-	var rtn = "";
-	ary.forEach(function(e){
-		if (tstr == e["date"]){
-			rtn = e["description"];
-		}
-	});
-	return rtn;
+	return JHoliday.description(date.getFullYear(), date.getMonth() + 1, date.getDate());
 };
 
 /**
@@ -236,6 +400,7 @@ JHoliday.descriptionDate = function(date){
  * @param month ；  1 = １月
  */
 JHoliday.getMonthHolidayArray = function(year, month){
+	if (JHoliday.inTable(year)) return JHoliday.tableHolidayArray(year, month);
 	switch(parseInt(month)){
 	case 1: return JHoliday.january(year);
 	case 2: return JHoliday.february(year);
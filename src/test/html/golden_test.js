@@ -0,0 +1,45 @@
+/*
+ * jholiday.js とゴールデンファイル（Java の holiday.HolidayGolden が出力）の照合
+ *     node src/test/html/golden_test.js [ゴールデンファイル]
+ * 計算による結果と、JHoliday.loadGolden で読み込んだ表による結果を照合する。
+ * jholiday.js の計算では振替休日の description は "振替休日" なので、振替休日は先頭の一致で照合する。
+ * 不一致があれば終了コード 1
+ */
+var fs = require("fs");
+var path = require("path");
+eval(fs.readFileSync(path.join(__dirname, "jholiday.js"), "utf8").replace('if (typeof(JHoliday) == "undefined") JHoliday = { };', "var JHoliday = { };"));
+
+var file = process.argv[2] || path.join(__dirname, "..", "resources", "holiday-golden.tsv");
+var text = fs.readFileSync(file, "utf8");
+var golden = { };
+var first = 0, last = 0, count = 0;
+text.split(/\r?\n/).forEach(function(line){
+	if (line=="" || line.charAt(0)=="#") return;
+	var ymd = line.substring(0, 8);
+	golden[ymd] = line.substring(9);
+	if (first==0) first = parseInt(ymd.substring(0, 4), 10);
+	last = parseInt(ymd.substring(0, 4), 10);
+	count++;
+});
+
+function check(label, exact){
+	var errors = 0;
+	for(var d = new Date(first, 0, 1); d.getFullYear() <= last; d.setDate(d.getDate() + 1)){
+		var ymd = JHoliday.dateFormate(d).replace(/-/g, "");
+		var expected = golden[ymd];
+		var holiday = JHoliday.isHolidayDate(d)==1;
+		var name = JHoliday.descriptionDate(d);
+		var ok = expected==null ? !holiday && name=="" : holiday
+			&& (name==expected || !exact && name=="振替休日" && expected.indexOf("振替休日（")==0);
+		if (!ok){
+			console.log("NG " + label + " " + ymd + " : " + name + " != " + expected);
+			errors++;
+		}
+	}
+	return errors;
+}
+var errors = check("jholiday.js", false);
+JHoliday.loadGolden(text);
+errors += check("loadGolden", true);
+console.log("golden " + count + " holidays, errors=" + errors);
+process.exit(errors > 0 ? 1 : 0);
@@ -0,0 +1,40 @@
+package holiday;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * BulkIntervalCount のスループット計測.
+ * 引数：件数（省略時 10,000,000）
+ */
+public class BenchBulkIntervalCount {
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		int span = (int)(BusinessCalendar.LAST_EPOCH_DAY - BusinessCalendar.FIRST_EPOCH_DAY);
+		Random random = new Random(1);
+		int[] starts = new int[n];
+		int[] ends = new int[n];
+		for(int i=0;i < n;i++) {
+			starts[i] = (int)BusinessCalendar.FIRST_EPOCH_DAY + random.nextInt(span - 3650);
+			ends[i] = starts[i] + random.nextInt(3650);
+		}
+		int[] businessDays = new int[n];
+		int[] holidays = new int[n];
+		int cores = Runtime.getRuntime().availableProcessors();
+		for(int p=1;p <= cores;p = (p < cores && p * 2 > cores) ? cores : p * 2) {
+			ForkJoinPool pool = new ForkJoinPool(p);
+			// warm-up
+			for(int i=0;i < 3;i++) {
+				BulkIntervalCount.count(pool, starts, ends, businessDays, holidays);
+			}
+			int rounds = 10;
+			long t = System.nanoTime();
+			for(int i=0;i < rounds;i++) {
+				BulkIntervalCount.count(pool, starts, ends, businessDays, holidays);
+			}
+			double sec = (System.nanoTime() - t) / 1e9;
+			System.out.printf("parallelism=%d : %,.0f rows/s%n", p, (double)n * rounds / sec);
+			pool.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+package holiday;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HolidayServer のスループット計測（ローカルの負荷試験）.
+ * 引数：クライアントスレッド数（省略時 CPU 数×4） 計測秒数（省略時 5）
+ */
+public class BenchHolidayServer {
+	public static void main(String[] args) throws Exception {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int clients = args.length > 0 ? Integer.parseInt(args[0]) : cores * 4;
+		int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		// 組み込む側として Nagle アルゴリズムを無効にする（HolidayServer は main() でのみ設定する）
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+		HolidayServer server = new HolidayServer(0);
+		server.start();
+		String base = "http://localhost:" + server.getPort();
+		// 応答の確認
+		System.out.println(get(base + "/holiday/2026-09-22", null));
+		System.out.println(get(base + "/holidays/2026/05", null));
+		System.out.println(get(base + "/holidays?from=2026-12-25&to=2027-01-15", null));
+		String etag = etag(base + "/holidays/2026");
+		System.out.println("ETag=" + etag + " If-None-Match → " + status(base + "/holidays/2026", etag));
+		System.out.println("/holiday/2026-02-30 → " + status(base + "/holiday/2026-02-30", null));
+
+		// warm-up
+		run(base, clients, 3);
+		double rps = run(base, clients, seconds);
+		server.stop(0);
+		System.out.printf("clients=%d : %,.0f req/s  %,.0f req/s/core (cores=%d)%n", clients, rps, rps / cores, cores);
+	}
+
+	private static double run(String base, int clients, int seconds) throws Exception {
+		LongAdder requests = new LongAdder();
+		long end = System.nanoTime() + seconds * 1_000_000_000L;
+		Thread[] threads = new Thread[clients];
+		for(int t=0;t < clients;t++) {
+			Random random = new Random(t);
+			threads[t] = new Thread(()->{
+				try {
+					while(System.nanoTime() < end) {
+						int year = Holiday.MIN_TABLE_YEAR + random.nextInt(50);
+						String url;
+						switch(random.nextInt(3)) {
+							case 0:
+								url = String.format("%s/holiday/%04d-%02d-%02d", base, year, random.nextInt(12) + 1, random.nextInt(28) + 1);
+								break;
+							case 1:
+								url = String.format("%s/holidays/%04d/%02d", base, year, random.nextInt(12) + 1);
+								break;
+							default:
+								url = String.format("%s/holidays/%04d", base, year);
+						}
+						get(url, null);
+						requests.increment();
+					}
+				}catch(Exception e) {
+					e.printStackTrace();
+				}
+			});
+			threads[t].start();
+		}
+		for(Thread t : threads) t.join();
+		return requests.sum() / (double)seconds;
+	}
+
+	private static String get(String url, String etag) throws Exception {
+		HttpURLConnection c = (HttpURLConnection)new URL(url).openConnection();
+		if (etag != null) c.setRequestProperty("If-None-Match", etag);
+		try(InputStream in = c.getResponseCode() < 400 ? c.getInputStream() : c.getErrorStream()) {
+			return in==null ? "" : new String(readAll(in), "UTF-8");
+		}
+	}
+	private static String etag(String url) throws Exception {
+		HttpURLConnection c = (HttpURLConnection)new URL(url).openConnection();
+		try(InputStream in = c.getInputStream()) {
+			readAll(in);
+		}
+		return c.getHeaderField("ETag");
+	}
+	private static int status(String url, String etag) throws Exception {
+		HttpURLConnection c = (HttpURLConnection)new URL(url).openConnection();
+		if (etag != null) c.setRequestProperty("If-None-Match", etag);
+		int status = c.getResponseCode();
+		InputStream in = status < 400 ? c.getInputStream() : c.getErrorStream();
+		if (in != null) {
+			readAll(in);
+			in.close();
+		}
+		return status;
+	}
+	private static byte[] readAll(InputStream in) throws Exception {
+		java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
+		byte[] buf = new byte[8192];
+		for(int n;(n = in.read(buf)) > 0;) out.write(buf, 0, n);
+		return out.toByteArray();
+	}
+}
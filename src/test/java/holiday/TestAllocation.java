@@ -0,0 +1,161 @@
+package holiday;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 検索メソッドのメモリ割当ての上限（バイト／呼出し）の確認.
+ * Holiday、Holiday.YearTable、BusinessCalendar、HolidayIndex、JapanBusinessDays、MonthGrid の
+ * 公開の検索メソッドについて、com.sun.management.ThreadMXBean#getThreadAllocatedBytes で、ウォームアップ後の
+ * CALLS 回の呼出しで割り当てたバイト数を測り、上限を超えたら終了コード 1
+ * 上限 0 は割当てなし、24 は結果の LocalDate のみ。
+ * HolidayStats を登録した状態（監視あり）でも同じ上限で確認する。
+ * 引数：-v 全ての結果を表示
+ */
+public class TestAllocation {
+	static final int CALLS = 200_000;
+	static final int WARMUP = 20_000;
+	static final int DAYS = 4096;
+	static final com.sun.management.ThreadMXBean THREAD = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+	static int sink;
+
+	// 名前、上限（バイト／呼出し）、呼出し
+	static final class Budget {
+		final String name;
+		final double bytesPerCall;
+		final IntUnaryOperator call;
+		Budget(String name, double bytesPerCall, IntUnaryOperator call){
+			this.name = name;
+			this.bytesPerCall = bytesPerCall;
+			this.call = call;
+		}
+	}
+
+	public static void main(String[] args) {
+		boolean verbose = args.length > 0 && "-v".equals(args[0]);
+		if (!THREAD.isThreadAllocatedMemorySupported()) {
+			System.out.println("getThreadAllocatedBytes not supported");
+			return;
+		}
+		THREAD.setThreadAllocatedMemoryEnabled(true);
+
+		// 入力は測定の前に作成する
+		LocalDate[] dates = new LocalDate[DAYS];
+		long[] epochDays = new long[DAYS];
+		long[] millis = new long[DAYS];
+		Instant[] instants = new Instant[DAYS];
+		Date[] utilDates = new Date[DAYS];
+		Calendar[] calendars = new Calendar[DAYS];
+		String[] texts = new String[DAYS];
+		byte[] bytes = new byte[DAYS * 10];
+		int[] ymds = new int[DAYS];
+		for(int i=0;i < DAYS;i++) {
+			LocalDate d = LocalDate.of(2024, 1, 1).plusDays(i);
+			dates[i] = d;
+			epochDays[i] = d.toEpochDay();
+			millis[i] = d.atStartOfDay(ZoneId.of("Asia/Tokyo")).toInstant().toEpochMilli() + 12L * 3600 * 1000;
+			instants[i] = Instant.ofEpochMilli(millis[i]);
+			utilDates[i] = new Date(millis[i]);
+			Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("Asia/Tokyo"));
+			cal.setTimeInMillis(millis[i]);
+			cal.get(Calendar.DAY_OF_YEAR);
+			calendars[i] = cal;
+			texts[i] = d.toString();
+			System.arraycopy(texts[i].getBytes(StandardCharsets.US_ASCII), 0, bytes, i * 10, 10);
+			ymds[i] = d.getYear() * 10000 + d.getMonthValue() * 100 + d.getDayOfMonth();
+		}
+		ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+		ZoneOffset jst = ZoneOffset.ofHours(9);
+		Holiday.YearTable table = Holiday.yearTable(2026);
+		Holiday[] holidays = new Holiday[8];
+		for(int i=0;i < holidays.length;i++) holidays[i] = new Holiday(2024 + i);
+		Set<HolidayIndex.Category> happyMonday = EnumSet.of(HolidayIndex.Category.HAPPY_MONDAY);
+
+		List<Budget> budgets = new ArrayList<>();
+		budgets.add(new Budget("Holiday.isHoliday(LocalDate)", 0, i->Holiday.isHoliday(dates[i]) ? 1 : 0));
+		budgets.add(new Budget("Holiday.isHolidayEpochDay(long)", 0, i->Holiday.isHolidayEpochDay(epochDays[i]) ? 1 : 0));
+		budgets.add(new Budget("Holiday.isHoliday(long)", 0, i->Holiday.isHoliday(millis[i]) ? 1 : 0));
+		budgets.add(new Budget("Holiday.isHoliday(Instant)", 0, i->Holiday.isHoliday(instants[i]) ? 1 : 0));
+		budgets.add(new Budget("Holiday.isHoliday(long, Asia/Tokyo)", 0, i->Holiday.isHoliday(millis[i], tokyo) ? 1 : 0));
+		budgets.add(new Budget("Holiday.isHoliday(long, +09:00)", 0, i->Holiday.isHoliday(millis[i], jst) ? 1 : 0));
+		budgets.add(new Budget("Holiday.isHoliday(Date)", 0, i->Holiday.isHoliday(utilDates[i]) ? 1 : 0));
+		budgets.add(new Budget("Holiday.isHoliday(Calendar)", 0, i->Holiday.isHoliday(calendars[i]) ? 1 : 0));
+		budgets.add(new Budget("Holiday.isHoliday(CharSequence)", 0, i->Holiday.isHoliday(texts[i]) ? 1 : 0));
+		budgets.add(new Budget("Holiday.isHoliday(byte[], int, int)", 0, i->Holiday.isHoliday(bytes, i * 10, 10) ? 1 : 0));
+		budgets.add(new Budget("Holiday.isHolidayYmd(int)", 0, i->Holiday.isHolidayYmd(ymds[i]) ? 1 : 0));
+		budgets.add(new Budget("Holiday.queryHoliday(LocalDate)", 0, i->Holiday.queryHoliday(dates[i])==null ? 0 : 1));
+		budgets.add(new Budget("Holiday.yearTable(int).getName(int)", 0, i->Holiday.yearTable(dates[i].getYear()).getName(i % 365)==null ? 0 : 1));
+		budgets.add(new Budget("YearTable.getCode(int)", 0, i->table.getCode(i % 365)));
+		budgets.add(new Budget("YearTable.getHolidayType(int)", 0, i->table.getHolidayType(i % 365)==null ? 0 : 1));
+		budgets.add(new Budget("YearTable.isHoliday(int)", 0, i->table.isHoliday(i % 365) ? 1 : 0));
+		budgets.add(new Budget("BusinessCalendar.isBusinessDay(LocalDate)", 0, i->BusinessCalendar.isBusinessDay(dates[i]) ? 1 : 0));
+		budgets.add(new Budget("BusinessCalendar.isBusinessDay(long)", 0, i->BusinessCalendar.isBusinessDay(epochDays[i]) ? 1 : 0));
+		budgets.add(new Budget("BusinessCalendar.businessDaysBetween(long, long)", 0, i->BusinessCalendar.businessDaysBetween(epochDays[i], epochDays[i] + 400)));
+		budgets.add(new Budget("BusinessCalendar.businessDayIndex(LocalDate)", 0, i->BusinessCalendar.businessDayIndex(dates[i])));
+		budgets.add(new Budget("BusinessCalendar.businessDayRank(LocalDate)", 0, i->BusinessCalendar.businessDayRank(dates[i])));
+		budgets.add(new Budget("BusinessCalendar.nthBusinessDay(int, int, int)", 24, i->BusinessCalendar.nthBusinessDay(2024 + (i & 7), 1 + i % 12, 1 + (i & 15)).getDayOfMonth()));
+		budgets.add(new Budget("JapanBusinessDays.holidayQuery()", 0, i->dates[i].query(JapanBusinessDays.holidayQuery())==null ? 0 : 1));
+		budgets.add(new Budget("JapanBusinessDays.businessDayQuery()", 0, i->dates[i].query(JapanBusinessDays.businessDayQuery()) ? 1 : 0));
+		budgets.add(new Budget("JapanBusinessDays.nextBusinessDay()", 24, i->dates[i].with(JapanBusinessDays.nextBusinessDay()).getDayOfMonth()));
+		budgets.add(new Budget("JapanBusinessDays.previousOrSameBusinessDay()", 24, i->dates[i].with(JapanBusinessDays.previousOrSameBusinessDay()).getDayOfMonth()));
+		budgets.add(new Budget("LocalDate.plus(n, JapanBusinessDays.UNIT)", 24, i->dates[i].plus(5, JapanBusinessDays.UNIT).getDayOfMonth()));
+		budgets.add(new Budget("LocalDate.until(end, JapanBusinessDays.UNIT)", 0, i->(int)dates[i].until(dates[(i + 100) & (DAYS - 1)], JapanBusinessDays.UNIT)));
+		budgets.add(new Budget("MonthGrid.of(int, int, DayOfWeek).getCell", 0, i->MonthGrid.of(dates[i].getYear(), dates[i].getMonthValue(), DayOfWeek.MONDAY).getCell(i % MonthGrid.CELLS)));
+		// リスト、配列を返す一括取得（リフレクションで計算する）
+		budgets.add(new Budget("Holiday.listHolidays(int)", 12_000, i->Holiday.listHolidays(2024 + (i & 7)).size()));
+		budgets.add(new Budget("Holiday.listHolidayDate(int)", 11_000, i->Holiday.listHolidayDate(2024 + (i & 7)).size()));
+		budgets.add(new Budget("Holiday.listHolidayDate(int, int)", 1_500, i->Holiday.listHolidayDate(2024 + (i & 7), 5).size()));
+		budgets.add(new Budget("Holiday.listHolidayBundle(int)", 6_000, i->Holiday.listHolidayBundle(2024 + (i & 7)).size()));
+		budgets.add(new Budget("Holiday.arrayDays(int, int)", 1_000, i->Holiday.arrayDays(2024 + (i & 7), 5).length));
+		budgets.add(new Budget("Holiday.arrayDate(int, int)", 800, i->Holiday.arrayDate(2024 + (i & 7), 5).length));
+		budgets.add(new Budget("Holiday.getNatinalHoliday(int)", 2_000, i->Holiday.getNatinalHoliday(2024 + (i & 7)).length));
+		budgets.add(new Budget("new Holiday(year).listHolidayDate()", 11_000, i->holidays[i & 7].listHolidayDate().size()));
+		budgets.add(new Budget("new Holiday(year).arrayDate()", 11_000, i->holidays[i & 7].arrayDate().length));
+		// 年の範囲の日付の配列を返す索引
+		budgets.add(new Budget("HolidayIndex.dates(HolidayType, int, int)", 100, i->HolidayIndex.dates(Holiday.HolidayType.SPRING_EQUINOX_DAY, 2024, 2024 + (i & 7)).length));
+		budgets.add(new Budget("HolidayIndex.dates(Set<Category>, int, int)", 600, i->HolidayIndex.dates(happyMonday, 2024, 2024 + (i & 7)).length));
+
+		int errors = check(budgets, verbose, "");
+		HolidayStats.register();
+		errors += check(budgets, verbose, " [HolidayStats]");
+		HolidayStats.unregister();
+		System.out.println("allocation budgets " + budgets.size() + " x 2, errors=" + errors);
+		if (errors > 0) System.exit(1);
+	}
+
+	static int check(List<Budget> budgets, boolean verbose, String label) {
+		int errors = 0;
+		long tid = Thread.currentThread().getId();
+		for(Budget b : budgets) {
+			int calls = b.bytesPerCall < 1000 ? CALLS : CALLS / 100;
+			for(int k=0;k < WARMUP;k++) sink += b.call.applyAsInt(k & (DAYS - 1));
+			// JIT のコンパイル、TLAB の補充による誤差を除くため、３回の最小値を採る
+			double perCall = Double.MAX_VALUE;
+			for(int r=0;r < 3;r++) {
+				long before = THREAD.getThreadAllocatedBytes(tid);
+				for(int k=0;k < calls;k++) sink += b.call.applyAsInt(k & (DAYS - 1));
+				long allocated = THREAD.getThreadAllocatedBytes(tid) - before;
+				perCall = Math.min(perCall, (double)allocated / calls);
+			}
+			// 測定自体の誤差として呼出し全体で 1KB まで許す
+			boolean ok = perCall <= b.bytesPerCall + 1024.0 / calls;
+			if (!ok) errors++;
+			if (!ok || verbose) {
+				System.out.println(String.format("%s %-50s %10.2f bytes/call (budget %.0f)%s", ok ? "OK" : "NG", b.name, perCall, b.bytesPerCall, label));
+			}
+		}
+		return errors;
+	}
+}
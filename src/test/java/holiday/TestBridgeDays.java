@@ -0,0 +1,25 @@
+package holiday;
+import java.time.LocalDate;
+
+import holiday.BridgeDays.Leave;
+
+public class TestBridgeDays {
+	public static void main(String[] args) {
+
+		BridgeDays bridgeDays = new BridgeDays(2026);
+
+		System.out.println("-------- singleBridgeDays() ----------");
+		for(LocalDate d : bridgeDays.singleBridgeDays()){
+			System.out.println( d + " " + Holiday.dateOfWeekJA(d) );
+		}
+		for(int k=0;k <= 3;k++){
+			System.out.println("--------- best(" + k + ") ---------");
+			Leave leave = bridgeDays.best(k);
+			System.out.println( leave );
+			for(LocalDate d : leave.getLeaveDays()){
+				System.out.println( "  " + d + " " + Holiday.dateOfWeekJA(d) );
+			}
+		}
+	}
+
+}
@@ -0,0 +1,149 @@
+package holiday;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.chrono.JapaneseDate;
+import java.time.chrono.ThaiBuddhistDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class TestBusinessCalendar {
+	public static void main(String[] args) {
+
+		System.out.println("--------- BusinessCalendar.businessDayCount(2026, 5) ---------");
+		System.out.println( BusinessCalendar.businessDayCount(2026, 5) );
+
+		System.out.println("--------- BusinessCalendar.nthBusinessDay(2026, 5, n) ---------");
+		for(int n : new int[]{ 1, 3, -1, -2 }) {
+			System.out.println( n + " : " + BusinessCalendar.nthBusinessDay(2026, 5, n) );
+		}
+		System.out.println("--------- BusinessCalendar.businessDayIndex(2026-05-xx) ---------");
+		for(int d=1;d <= 31;d++) {
+			LocalDate dt = LocalDate.of(2026, 5, d);
+			System.out.println( dt + " " + Holiday.dateOfWeekJA(dt) + " : " + BusinessCalendar.businessDayIndex(dt) );
+		}
+		System.out.println("--------- ２５日より前の最終営業日 2026 ---------");
+		for(int m=1;m <= 12;m++) {
+			int rank = BusinessCalendar.businessDayRank(LocalDate.of(2026, m, 24));
+			System.out.println( BusinessCalendar.nthBusinessDay(2026, m, rank) );
+		}
+		System.out.println("--------- RollConvention.adjust(2026-05-02～2026-05-06) ---------");
+		for(int d=2;d <= 6;d++) {
+			LocalDate dt = LocalDate.of(2026, 5, d);
+			StringBuilder sb = new StringBuilder(dt + " " + Holiday.dateOfWeekJA(dt));
+			for(RollConvention r : RollConvention.values()) {
+				sb.append(" ").append(r).append("=").append(r.adjust(dt));
+			}
+			System.out.println( sb );
+		}
+		System.out.println("--------- RollConvention.MODIFIED_FOLLOWING.adjustAll(月末) ---------");
+		int[] days = new int[12];
+		for(int m=1;m <= 12;m++) {
+			days[m - 1] = (int)LocalDate.of(2026, m, 1).plusMonths(1).minusDays(1).toEpochDay();
+		}
+		RollConvention.MODIFIED_FOLLOWING.adjustAll(days);
+		for(int d : days) {
+			System.out.println( LocalDate.ofEpochDay(d) );
+		}
+		System.out.println("--------- Schedule QUARTERLY 25日 MODIFIED_FOLLOWING SHORT_FRONT ---------");
+		Schedule schedule = new Schedule(Schedule.Frequency.QUARTERLY, 25, false, RollConvention.MODIFIED_FOLLOWING, Schedule.Stub.SHORT_FRONT);
+		Schedule.Dates dates = schedule.generate(LocalDate.of(2026, 4, 10), LocalDate.of(2027, 12, 25));
+		for(int i=0;i < dates.size();i++) {
+			System.out.println( dates.unadjustedDate(i) + " -> " + dates.adjustedDate(i) );
+		}
+		System.out.println("--------- Schedule MONTHLY 月末 PRECEDING SHORT_BACK 開始日 2026-01-15（月末でないので15日） ---------");
+		schedule = new Schedule(Schedule.Frequency.MONTHLY, 31, true, RollConvention.PRECEDING, Schedule.Stub.SHORT_BACK);
+		dates = schedule.generate(LocalDate.of(2026, 1, 15), LocalDate.of(2026, 7, 15));
+		for(int i=0;i < dates.size();i++) {
+			System.out.println( dates.unadjustedDate(i) + " -> " + dates.adjustedDate(i) );
+		}
+		System.out.println("--------- Schedule MONTHLY 31日 FOLLOWING SHORT_BACK 最初の期間は１か月 ---------");
+		schedule = new Schedule(Schedule.Frequency.MONTHLY, 31, false, RollConvention.FOLLOWING, Schedule.Stub.SHORT_BACK);
+		dates = schedule.generate(LocalDate.of(2026, 1, 15), LocalDate.of(2026, 7, 20));
+		for(int i=0;i < dates.size();i++) {
+			System.out.println( dates.unadjustedDate(i) + " -> " + dates.adjustedDate(i) );
+		}
+		boolean fullFirst = dates.unadjustedDate(1).equals(LocalDate.of(2026, 2, 15));
+		System.out.println( "first period full : " + fullFirst );
+		if (!fullFirst) throw new AssertionError("SHORT_BACK first period " + dates.unadjustedDate(1));
+		System.out.println("--------- Schedule MONTHLY 月末 SHORT_BACK 開始日 2026-01-31 ---------");
+		schedule = new Schedule(Schedule.Frequency.MONTHLY, 31, true, RollConvention.UNADJUSTED, Schedule.Stub.SHORT_BACK);
+		dates = schedule.generate(LocalDate.of(2026, 1, 31), LocalDate.of(2026, 5, 15));
+		for(int i=0;i < dates.size();i++) {
+			System.out.println( dates.unadjustedDate(i) );
+		}
+		System.out.println("--------- BusinessDayCount.BUS_252 ---------");
+		System.out.println( BusinessCalendar.businessDaysBetween(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 10, 1)) );
+		System.out.println( BusinessDayCount.BUS_252.yearFraction(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 10, 1)) );
+		int[] starts = { (int)LocalDate.of(2026, 1, 1).toEpochDay(), (int)LocalDate.of(2030, 1, 1).toEpochDay() };
+		int[] ends = { (int)LocalDate.of(2027, 1, 1).toEpochDay(), (int)LocalDate.of(2060, 1, 1).toEpochDay() };
+		double[] fractions = new double[2];
+		BusinessDayCount.BUS_252.yearFractions(starts, ends, fractions);
+		for(double f : fractions) {
+			System.out.println( f );
+		}
+		System.out.println("--------- BusinessTime 9:00～18:00 休憩 12:00～13:00 ---------");
+		BusinessTime businessTime = new BusinessTime(LocalTime.of(9, 0), LocalTime.of(18, 0), LocalTime.of(12, 0), LocalTime.of(13, 0));
+		ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+		Instant from = LocalDate.of(2026, 5, 1).atTime(17, 0).atZone(tokyo).toInstant();
+		Instant to = LocalDate.of(2026, 5, 7).atTime(10, 30).atZone(tokyo).toInstant();
+		System.out.println( businessTime.between(from, to) );
+		System.out.println( businessTime.deadline(from, Duration.ofHours(8)).atZone(tokyo) );
+		// 範囲の終端 LAST_EPOCH_DAY の翌日（2151-01-01）の Instant
+		Instant lastStart = LocalDate.ofEpochDay(BusinessCalendar.LAST_EPOCH_DAY).minusDays(1).atStartOfDay(tokyo).toInstant();
+		Instant rangeEnd = LocalDate.ofEpochDay(BusinessCalendar.LAST_EPOCH_DAY + 1).atTime(10, 0).atZone(tokyo).toInstant();
+		Duration tail = businessTime.between(lastStart, rangeEnd);
+		System.out.println( tail );
+		if (!tail.equals(businessTime.between(lastStart, LocalDate.ofEpochDay(BusinessCalendar.LAST_EPOCH_DAY + 1).atStartOfDay(tokyo).toInstant()))) {
+			throw new AssertionError("BusinessTime at 2151-01-01 " + tail);
+		}
+		System.out.println("--------- HolidayCron ---------");
+		for(String expression : new String[]{ "0 9 * * * BUSINESS", "30 17 LBD * *", "0 8 * * MON-FRI !NATIONAL" }) {
+			HolidayCron cron = HolidayCron.parse(expression);
+			LocalDateTime t = LocalDateTime.of(2026, 9, 18, 12, 0);
+			StringBuilder sb = new StringBuilder(expression + " :");
+			for(int i=0;i < 3;i++) {
+				t = cron.nextFireTime(t);
+				sb.append(" ").append(t);
+			}
+			System.out.println( sb );
+		}
+		System.out.println("--------- JapanBusinessDays ---------");
+		LocalDate date = LocalDate.of(2026, 9, 18);
+		System.out.println( date.plus(5, JapanBusinessDays.UNIT) );
+		System.out.println( date.with(JapanBusinessDays.nextBusinessDay()) );
+		System.out.println( date.until(LocalDate.of(2026, 10, 1), JapanBusinessDays.UNIT) );
+		System.out.println( LocalDate.of(2026, 9, 22).query(JapanBusinessDays.holidayQuery()) );
+		System.out.println( JapaneseDate.of(2026, 9, 22).query(JapanBusinessDays.holidayQuery()) );
+		System.out.println( ThaiBuddhistDate.from(LocalDate.of(2026, 9, 22)).query(JapanBusinessDays.holidayQuery()) );
+		System.out.println( LocalTime.NOON.query(JapanBusinessDays.holidayQuery()) );
+		System.out.println( LocalTime.NOON.query(JapanBusinessDays.businessDayQuery()) );
+
+		System.out.println("--------- JapanBusinessDays 範囲外 → DateTimeException ---------");
+		LocalDate last = LocalDate.ofEpochDay(BusinessCalendar.LAST_EPOCH_DAY);
+		LocalDate first = LocalDate.ofEpochDay(BusinessCalendar.FIRST_EPOCH_DAY);
+		List<Supplier<Object>> outOfRange = Arrays.asList(
+			()->last.with(JapanBusinessDays.nextBusinessDay()),
+			()->first.with(JapanBusinessDays.previousBusinessDay()),
+			()->LocalDate.of(2021, 12, 31).with(JapanBusinessDays.nextOrSameBusinessDay()),
+			()->last.plus(1, JapanBusinessDays.UNIT),
+			()->first.plus(-1, JapanBusinessDays.UNIT),
+			()->LocalDate.of(2021, 12, 31).until(first, JapanBusinessDays.UNIT),
+			()->LocalDate.of(2021, 12, 31).query(JapanBusinessDays.businessDayQuery())
+		);
+		for(Supplier<Object> s : outOfRange) {
+			try{
+				throw new AssertionError("not thrown " + s.get());
+			}catch(DateTimeException e){
+				System.out.println( e.getMessage() );
+			}
+		}
+		System.out.println( first.until(last.plusDays(1), JapanBusinessDays.UNIT) );
+	}
+
+}
@@ -0,0 +1,79 @@
+package holiday;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DateDimension の確認.
+ * 2026年の CSV と固定長バイナリをメモリ上に作成し、連休の日数、国民の休日のフラグ、
+ * 月、年の営業日の番号（BusinessCalendar と比較）、バイナリの長さ（日数×RECORD_SIZE）を確認する。
+ * 不一致があれば終了コード 1
+ */
+public class TestDateDimension {
+	static int errors = 0;
+
+	public static void main(String[] args) throws Exception {
+		ByteArrayOutputStream csv = new ByteArrayOutputStream();
+		ByteArrayOutputStream binary = new ByteArrayOutputStream();
+		long days = new DateDimension(2026, 2026, 2).write(Channels.newChannel(csv), Channels.newChannel(binary));
+		check("days", 365L, days);
+		check("binary length", days * DateDimension.RECORD_SIZE, (long)binary.size());
+
+		String[] lines = new String(csv.toByteArray(), StandardCharsets.UTF_8).split("\n");
+		check("header", DateDimension.CSV_HEADER.trim(), lines[0]);
+		check("csv rows", days, (long)(lines.length - 1));
+		Map<String, String[]> rows = new HashMap<>();
+		for(int i=1;i < lines.length;i++) {
+			String[] c = lines[i].split(",", -1);
+			rows.put(c[0], c);
+		}
+
+		System.out.println("--------- 2026-05-02～05-06 の連休 ---------");
+		for(int d=2;d <= 6;d++) {
+			String[] c = rows.get("2026-05-0" + d);
+			System.out.println( String.join(",", c) );
+			check("2026-05-0" + d + " rest_days", "5", c[11]);
+			check("2026-05-0" + d + " rest_day_number", Integer.toString(d - 1), c[12]);
+		}
+		check("2026-05-07 rest_days", "0", rows.get("2026-05-07")[11]);
+
+		System.out.println("--------- 2026-09-22 国民の休日 ---------");
+		String[] c = rows.get("2026-09-22");
+		System.out.println( String.join(",", c) );
+		check("2026-09-22 holiday_name", "国民の休日", c[4]);
+		check("2026-09-22 is_national_holiday", "1", c[7]);
+		check("2026-09-22 is_business_day", "0", c[8]);
+		ByteBuffer record = ByteBuffer.wrap(binary.toByteArray(), (LocalDate.of(2026, 9, 22).getDayOfYear() - 1) * DateDimension.RECORD_SIZE, DateDimension.RECORD_SIZE);
+		check("2026-09-22 binary yyyymmdd", 20260922, record.getInt(record.position() + 4));
+		check("2026-09-22 binary flags", DateDimension.FLAG_HOLIDAY | DateDimension.FLAG_NATIONAL_HOLIDAY, (int)record.get(record.position() + 10));
+
+		System.out.println("--------- business_day_of_month / business_day_of_year ---------");
+		ByteBuffer bin = ByteBuffer.wrap(binary.toByteArray());
+		LocalDate first = LocalDate.of(2026, 1, 1);
+		for(LocalDate d=first;d.getYear()==2026;d=d.plusDays(1)) {
+			String[] row = rows.get(d.toString());
+			int ofMonth = BusinessCalendar.businessDayIndex(d);
+			int ofYear = ofMonth==0 ? 0 : BusinessCalendar.businessDaysBetween(first.toEpochDay(), d.toEpochDay() + 1);
+			check(d + " business_day_of_month", Integer.toString(ofMonth), row[9]);
+			check(d + " business_day_of_year", Integer.toString(ofYear), row[10]);
+			if (ofMonth > 0) check(d + " businessDayRank", Integer.toString(BusinessCalendar.businessDayRank(d)), row[9]);
+			int o = (d.getDayOfYear() - 1) * DateDimension.RECORD_SIZE;
+			check(d + " binary business_day_of_month", ofMonth, (int)bin.get(o + 11));
+			check(d + " binary business_day_of_year", ofYear, (int)bin.getShort(o + 12));
+		}
+		System.out.println( rows.get("2026-12-30")[9] + " " + rows.get("2026-12-30")[10] );
+
+		System.out.println("DateDimension errors=" + errors);
+		if (errors > 0) System.exit(1);
+	}
+
+	static void check(String label, Object expected, Object actual) {
+		if (expected.equals(actual)) return;
+		System.out.println( "NG " + label + " : expected=" + expected + " actual=" + actual );
+		errors++;
+	}
+}
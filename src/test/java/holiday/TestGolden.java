@@ -0,0 +1,65 @@
+package holiday;
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * ゴールデンファイルとの照合.
+ * 引数：ゴールデンファイル（省略時 src/test/resources/holiday-golden.tsv）
+ * 不一致があれば終了コード 1
+ */
+public class TestGolden {
+	public static void main(String[] args) throws Exception {
+		String path = args.length > 0 ? args[0] : "src/test/resources/holiday-golden.tsv";
+		int errors = 0;
+		int count = 0;
+		LocalDate next = LocalDate.of(Holiday.MIN_TABLE_YEAR, 1, 1);
+		try(BufferedReader br = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+			for(String line;(line = br.readLine()) != null;) {
+				if (line.isEmpty() || line.startsWith("#")) continue;
+				String[] s = line.split("\t", 2);
+				int ymd = Integer.parseInt(s[0]);
+				LocalDate date = LocalDate.of(ymd / 10000, ymd / 100 % 100, ymd % 100);
+				// 前の祝日からこの日の前日までは祝日でないこと
+				for(;next.isBefore(date);next = next.plusDays(1)) {
+					if (Holiday.isHoliday(next)) {
+						System.out.println("NG " + next + " : " + Holiday.queryHoliday(next) + " not in golden");
+						errors++;
+					}
+				}
+				if (!s[1].equals(Holiday.queryHoliday(date))) {
+					System.out.println("NG " + date + " : " + Holiday.queryHoliday(date) + " != " + s[1]);
+					errors++;
+				}
+				next = date.plusDays(1);
+				count++;
+			}
+		}
+		for(;next.getYear() <= Holiday.MAX_TABLE_YEAR;next = next.plusDays(1)) {
+			if (Holiday.isHoliday(next)) {
+				System.out.println("NG " + next + " : " + Holiday.queryHoliday(next) + " not in golden");
+				errors++;
+			}
+		}
+		// 表を使わない計算（listHolidays）との照合
+		int listed = 0;
+		for(int year=Holiday.MIN_TABLE_YEAR;year <= Holiday.MAX_TABLE_YEAR;year++) {
+			for(Map.Entry<LocalDate, String> e : Holiday.listHolidays(year)) {
+				if (!e.getValue().equals(Holiday.queryHoliday(e.getKey()))) {
+					System.out.println("NG listHolidays " + e.getKey() + " : " + e.getValue());
+					errors++;
+				}
+				listed++;
+			}
+		}
+		if (listed != count) {
+			System.out.println("NG listHolidays count " + listed + " != " + count);
+			errors++;
+		}
+		System.out.println("golden " + count + " holidays, errors=" + errors);
+		if (errors > 0) System.exit(1);
+	}
+}
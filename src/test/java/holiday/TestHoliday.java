@@ -1,13 +1,25 @@
 package holiday;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.EnumSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
 
 import holiday.Holiday;
 import holiday.Holiday.HolidayBundle;
 import holiday.Holiday.HolidayDate;
+import holiday.Holiday.HolidayType;
+import holiday.HolidayIndex.Category;
 
 public class TestHoliday {
-	public static void main(String[] args) {
+	public static void main(String[] args) throws IOException {
 
 		Holiday holiday = new Holiday(2026);
 
@@ -54,6 +66,60 @@ public class TestHoliday {
 		for(int d : Holiday.arrayDays(2026, 9)) {
 			System.out.println( d );
 		}
+		System.out.println("--------- HolidayIndex.dates(SPRING_EQUINOX_DAY, 2022, 2030) ---------");
+		for(long d : HolidayIndex.dates(HolidayType.SPRING_EQUINOX_DAY, 2022, 2030)) {
+			System.out.println( LocalDate.ofEpochDay(d) );
+		}
+		System.out.println("--------- HolidayIndex.dates([SUBSTITUTE, NATIONAL], 2026, 2027) ---------");
+		for(long d : HolidayIndex.dates(EnumSet.of(Category.SUBSTITUTE, Category.NATIONAL), 2026, 2027)) {
+			System.out.println( LocalDate.ofEpochDay(d) + " " + Holiday.queryHoliday(LocalDate.ofEpochDay(d)) );
+		}
+		System.out.println("--------- HolidayClock(Clock.fixed(2026-09-22)) ---------");
+		HolidayClock clock = new HolidayClock(Clock.fixed(LocalDate.of(2026, 9, 22).atStartOfDay(HolidayClock.JST).toInstant(), HolidayClock.JST));
+		System.out.println( clock.today() + " " + clock.todayStatus() + " " + clock.todayHolidayName() );
+		System.out.println("--------- Holiday.isHoliday(epochMillis / Instant / ZoneId) ---------");
+		Instant instant = Instant.parse("2026-09-21T15:30:00Z");
+		System.out.println( Holiday.isHoliday(instant.toEpochMilli()) );
+		System.out.println( Holiday.isHoliday(instant) );
+		System.out.println( Holiday.isHoliday(instant.toEpochMilli(), ZoneId.of("UTC")) );
+		System.out.println("--------- Holiday.isHoliday(Calendar) 2026-09-22 グレゴリオ暦 / 和暦 / 仏暦 ---------");
+		for(Locale locale : new Locale[]{ Locale.JAPAN, new Locale("ja", "JP", "JP"), new Locale("th", "TH") }) {
+			Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("Asia/Tokyo"), locale);
+			cal.clear();
+			cal.setTimeInMillis(Instant.parse("2026-09-22T03:00:00Z").toEpochMilli());
+			System.out.println( cal.getCalendarType() + " YEAR=" + cal.get(Calendar.YEAR) + " : " + Holiday.isHoliday(cal) );
+		}
+		System.out.println("--------- Holiday.isHoliday(CharSequence / byte[] / yyyymmdd) ---------");
+		System.out.println( Holiday.isHoliday("2026-09-22") );
+		System.out.println( Holiday.isHoliday("2026/09/24") );
+		byte[] line = "1,20260923,x".getBytes();
+		System.out.println( Holiday.isHoliday(line, 2, 8) );
+		System.out.println( Holiday.isHolidayYmd(20260922) );
+		System.out.println("--------- Holiday.isHoliday(CharSequence / byte[]) 不正な書式、存在しない日付 ---------");
+		for(String text : new String[]{ "2026-0x-22", "2026-09-2a", "-0260922", "2026-09-22 ", "2026-09-31" }) {
+			try{
+				System.out.println( text + " : " + Holiday.isHoliday(text) );
+			}catch(IllegalArgumentException e){
+				System.out.println( text + " : " + e.getMessage() );
+			}
+			try{
+				byte[] b = text.getBytes();
+				System.out.println( text + " : " + Holiday.isHoliday(b, 0, b.length) );
+			}catch(IllegalArgumentException e){
+				System.out.println( text + " : " + e.getMessage() );
+			}
+		}
+		System.out.println("--------- HolidayIcs.write(2026, 2026) ---------");
+		new HolidayIcs(HolidayIcs.DEFAULT_DOMAIN, HolidayIcs.DEFAULT_PRODID, Instant.parse("2026-01-01T00:00:00Z")).write(2026, 2026, System.out);
+		System.out.println("--------- MonthGrid.of(2026, 9, SUNDAY) ---------");
+		MonthGrid grid = MonthGrid.of(2026, 9, DayOfWeek.SUNDAY);
+		for(int i=0;i < MonthGrid.CELLS;i++){
+			int cell = grid.getCell(i, LocalDate.of(2026, 9, 22));
+			String name = grid.getName(cell);
+			System.out.print(String.format("%2d%s%s", cell & MonthGrid.DAY_MASK, (cell & MonthGrid.TODAY) != 0 ? "*" : " ", name==null ? "" : name));
+			System.out.print(i % 7==6 ? "\n" : " ");
+		}
+		System.out.println(StandardCharsets.UTF_8.decode(grid.toJson()));
 
 
 	}
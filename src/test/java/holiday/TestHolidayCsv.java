@@ -0,0 +1,51 @@
+package holiday;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * HolidayCsv の確認.
+ * ダブルクォート内の改行（RFC 4180）を含む CSV を、小さいチャンク（フィールドの途中で区切られる）で処理し、
+ * １チャンクで処理した結果と、期待する結果に一致することを確認する。
+ * 不一致があれば終了コード 1
+ */
+public class TestHolidayCsv {
+	public static void main(String[] args) throws Exception {
+		StringBuilder input = new StringBuilder("id,date,memo\r\n");
+		StringBuilder expected = new StringBuilder("id,date,memo,is_holiday,holiday_name,is_business_day\r\n");
+		for(int i=0;i < 200;i++) {
+			String date = i % 2==0 ? "2026-09-22" : "2026-09-24";
+			String memo = i % 3==0 ? "\"line1\nline2, \"\"quoted\"\"\r\nline3\"" : "memo" + i;
+			input.append(i).append(',').append(date).append(',').append(memo).append("\r\n");
+			expected.append(i).append(',').append(date).append(',').append(memo)
+			.append(i % 2==0 ? ",1,国民の休日,0" : ",0,,1").append("\r\n");
+		}
+		int errors = 0;
+		for(int chunkSize : new int[]{ 64, 100, 1 << 20 }) {
+			String result = enrich(input.toString(), new HolidayCsv(1, ',', true, 2, chunkSize));
+			boolean ok = expected.toString().equals(result);
+			System.out.println( "chunkSize=" + chunkSize + " : " + (ok ? "OK" : "NG") );
+			if (!ok) errors++;
+		}
+		System.out.println("HolidayCsv errors=" + errors);
+		if (errors > 0) System.exit(1);
+	}
+
+	static String enrich(String input, HolidayCsv csv) throws Exception {
+		Path in = Files.createTempFile("holiday", ".csv");
+		Path out = Files.createTempFile("holiday", ".csv");
+		try {
+			Files.write(in, input.getBytes(StandardCharsets.UTF_8));
+			try(FileChannel ic = FileChannel.open(in, StandardOpenOption.READ);
+				FileChannel oc = FileChannel.open(out, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				csv.enrich(ic, oc);
+			}
+			return new String(Files.readAllBytes(out), StandardCharsets.UTF_8);
+		}finally{
+			Files.delete(in);
+			Files.delete(out);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package holiday;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HolidayServer の応答の確認.
+ * 空いているポートでサーバを起動し、200、304（If-None-Match）、404、400、405 の状態コードと本文を確認する。
+ * 不一致があれば終了コード 1
+ */
+public class TestHolidayServer {
+	static int errors = 0;
+	static String base;
+
+	public static void main(String[] args) throws Exception {
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+		HolidayServer server = new HolidayServer(0);
+		server.start();
+		base = "http://localhost:" + server.getPort();
+		try {
+			check("GET", "/holiday/2026-09-22", null, 200, "\"name\":\"国民の休日\"");
+			check("GET", "/holiday/2026-09-24", null, 200, "\"holiday\":false");
+			check("GET", "/holidays/2026", null, 200, "\"date\":\"2026-05-06\"");
+			check("GET", "/holidays/2026/05", null, 200, "\"month\":5");
+			check("GET", "/holidays?from=2026-12-25&to=2027-01-15", null, 200, "\"date\":\"2027-01-11\"");
+			check("HEAD", "/holidays/2026", null, 200, null);
+			for(String path : new String[]{ "/holidays/2026", "/holidays/2026/09", "/holiday/2026-09-22", "/holidays?from=2026-05-01&to=2026-05-06" }) {
+				String etag = request("GET", path, null).getHeaderField("ETag");
+				if (etag==null) {
+					System.out.println( "NG " + path + " : no ETag" );
+					errors++;
+					continue;
+				}
+				check("GET", path, etag, 304, null);
+				check("GET", path, "\"00000000-0\"", 200, null);
+			}
+			check("GET", "/holiday/2021-12-31", null, 404, null);
+			check("GET", "/holiday/2026-02-30", null, 404, null);
+			check("GET", "/holiday/2026-9-22", null, 404, null);
+			check("GET", "/holidays/2151", null, 404, null);
+			check("GET", "/holidays/2026/13", null, 404, null);
+			check("GET", "/holidays?from=2026-05-06&to=2026-05-01", null, 400, "\"status\":400");
+			check("GET", "/holidays?from=2026-05-01", null, 400, null);
+			check("GET", "/holidays?from=2026-13-01&to=2026-12-31", null, 400, null);
+			check("POST", "/holidays/2026", null, 405, null);
+		}finally{
+			server.stop(0);
+		}
+		System.out.println("HolidayServer errors=" + errors);
+		if (errors > 0) System.exit(1);
+	}
+
+	static HttpURLConnection request(String method, String path, String ifNoneMatch) throws Exception {
+		HttpURLConnection c = (HttpURLConnection)new URL(base + path).openConnection();
+		c.setRequestMethod(method);
+		if (ifNoneMatch != null) c.setRequestProperty("If-None-Match", ifNoneMatch);
+		if ("POST".equals(method)) {
+			c.setDoOutput(true);
+			c.getOutputStream().close();
+		}
+		c.getResponseCode();
+		return c;
+	}
+
+	static void check(String method, String path, String ifNoneMatch, int status, String contains) throws Exception {
+		HttpURLConnection c = request(method, path, ifNoneMatch);
+		int code = c.getResponseCode();
+		String body = "";
+		InputStream in = code < 400 ? c.getInputStream() : c.getErrorStream();
+		if (in != null) {
+			try(InputStream i = in) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				byte[] b = new byte[4096];
+				for(int n;(n = i.read(b)) > 0;) out.write(b, 0, n);
+				body = new String(out.toByteArray(), StandardCharsets.UTF_8);
+			}
+		}
+		boolean ok = code==status && (contains==null || body.contains(contains));
+		System.out.println( (ok ? "OK " : "NG ") + method + " " + path + (ifNoneMatch==null ? "" : " If-None-Match:" + ifNoneMatch) + " → " + code );
+		if (!ok) {
+			System.out.println( "   expected " + status + (contains==null ? "" : " containing " + contains) + " : " + body );
+			errors++;
+		}
+	}
+}
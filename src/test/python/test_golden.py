@@ -0,0 +1,46 @@
+# -*- coding: utf-8 -*-
+######################################################################
+# holiday.py とゴールデンファイル（Java の holiday.HolidayGolden が出力）の照合
+#     python3 src/test/python/test_golden.py [ゴールデンファイル]
+# 不一致があれば終了コード 1
+######################################################################
+import os
+import sys
+from datetime import date, timedelta
+
+base = os.path.dirname(os.path.abspath(__file__))
+sys.path.insert(0, os.path.join(base, '..', '..', 'main', 'python'))
+import holiday
+from holiday import Holiday, read_golden
+
+path = sys.argv[1] if len(sys.argv) > 1 else os.path.join(base, '..', 'resources', 'holiday-golden.tsv')
+golden = read_golden(path)
+errors = 0
+# 年ごとに計算した祝日と照合する（ゴールデンファイルは日付順）
+years = {}
+for t in golden:
+    years.setdefault(t[0].year, []).append(t)
+for year in range(golden[0][0].year, golden[-1][0].year + 1):
+    expected = years.get(year, [])
+    actual = sorted(t for t in Holiday(year).listHolidays() if t[0] is not None)
+    if actual != expected:
+        for t in sorted(set(expected) ^ set(actual)):
+            print('NG', t[0], t[1], 'golden' if t in expected else 'holiday.py')
+            errors += 1
+# キャッシュを使う関数の照合
+holiday.clear_cache()
+names = dict(golden)
+d = golden[0][0].replace(month=1, day=1)
+while d.year <= golden[-1][0].year:
+    if holiday.holiday_name(d) != names.get(d):
+        print('NG holiday_name', d, holiday.holiday_name(d), names.get(d))
+        errors += 1
+    d += timedelta(days=1)
+# ゴールデンファイルを表として読み込んだ場合
+holiday.clear_cache()
+holiday.load_golden(path)
+if [holiday.is_holiday(t[0]) for t in golden].count(False) > 0:
+    print('NG load_golden')
+    errors += 1
+print('golden %d holidays, errors=%d' % (len(golden), errors))
+sys.exit(1 if errors > 0 else 0)
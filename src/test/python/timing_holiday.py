@@ -0,0 +1,56 @@
+# -*- coding: utf-8 -*-
+######################################################################
+# holiday.py の処理時間の比較
+#   従来：行ごとに Holiday(year) を生成して listHolidayDate() / listHolidays() を検索
+#   キャッシュ：is_holiday / holiday_name / is_holiday_bulk / business_days_between
+#     python3 src/test/python/timing_holiday.py [件数（省略時 100000）]
+######################################################################
+import os
+import random
+import sys
+import timeit
+from datetime import date, timedelta
+
+sys.path.insert(0, os.path.join(os.path.dirname(os.path.abspath(__file__)), '..', '..', 'main', 'python'))
+from holiday import Holiday, is_holiday, holiday_name, is_holiday_bulk, business_days_between, add_business_days
+
+n = int(sys.argv[1]) if len(sys.argv) > 1 else 100000
+random.seed(1)
+dates = [date(2022, 1, 1) + timedelta(days=random.randrange(365 * 30)) for _ in range(n)]
+
+# 従来の方法
+def old_is_holiday(d:date)->bool:
+    return d in Holiday(d.year).listHolidayDate()
+def old_holiday_name(d:date)->str:
+    for t in Holiday(d.year).listHolidays():
+        if t[0] == d:
+            return t[1]
+    return None
+def old_business_days_between(start:date, end:date)->int:
+    count = 0
+    d = start
+    while d < end:
+        if d.weekday() < 5 and d not in Holiday(d.year).listHolidayDate():
+            count += 1
+        d += timedelta(days=1)
+    return count
+
+# 結果の一致の確認
+assert [old_is_holiday(d) for d in dates[:2000]] == [is_holiday(d) for d in dates[:2000]]
+assert [old_holiday_name(d) for d in dates[:2000]] == [holiday_name(d) for d in dates[:2000]]
+assert all(old_business_days_between(d, d + timedelta(days=40)) == business_days_between(d, d + timedelta(days=40)) for d in dates[:200])
+
+def report(label:str, count:int, func)->None:
+    sec = timeit.timeit(func, number=1)
+    print('%-40s %12.0f /s' % (label, count / sec))
+
+sample = dates[:n // 10]
+report('is_holiday (従来)', len(sample), lambda: [old_is_holiday(d) for d in sample])
+report('is_holiday (キャッシュ)', n, lambda: [is_holiday(d) for d in dates])
+report('is_holiday_bulk', n, lambda: is_holiday_bulk(dates))
+report('holiday_name (従来)', len(sample), lambda: [old_holiday_name(d) for d in sample])
+report('holiday_name (キャッシュ)', n, lambda: [holiday_name(d) for d in dates])
+short = dates[:n // 1000 + 1]
+report('business_days_between 1年 (従来)', len(short), lambda: [old_business_days_between(d, d + timedelta(days=365)) for d in short])
+report('business_days_between 1年 (キャッシュ)', n, lambda: [business_days_between(d, d + timedelta(days=365)) for d in dates])
+report('add_business_days 250日 (キャッシュ)', n, lambda: [add_business_days(d, 250) for d in dates])